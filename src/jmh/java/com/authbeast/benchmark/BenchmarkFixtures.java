@@ -0,0 +1,235 @@
+package com.zentois.authbeast.benchmark;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.zentois.authbeast.config.CacheProperties;
+import com.zentois.authbeast.config.SecurityProperties;
+import com.zentois.authbeast.dto.claim.AccountClaimData;
+import com.zentois.authbeast.model.JwtPayloadData;
+import com.zentois.authbeast.security.aes.AesKeyService;
+import com.zentois.authbeast.security.ec.EcKeyService;
+import com.zentois.authbeast.security.jwe.JweService;
+import com.zentois.authbeast.security.jwe.JweTokenCodec;
+import com.zentois.authbeast.security.jwe.TokenViewResolver;
+import com.zentois.authbeast.security.rsa.RsaKeyRing;
+import com.zentois.authbeast.security.rsa.RsaService;
+import com.zentois.authbeast.utils.cache.PrivilegeClaimCache;
+import com.zentois.authbeast.utils.cache.TokenClaimsCache;
+import com.zentois.authbeast.utils.cache.UserSessionIndex;
+import com.zentois.framework.security.rsa.RsaGenerator;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Wires the token services of the SSO server by hand, without a Spring context, MySQL or Redis.
+ *
+ * The repositories behind the {@link PrivilegeClaimCache} are replaced by fixed in-memory claim data, so the
+ * benchmarks measure token building and cryptography only. The RSA key ring and the EC signing key are generated
+ * in memory, so a benchmark run never reads or writes the key store of the server.
+ *
+ * @author Ashwani Singh
+ * @version 1.2
+ * @since 2026-Oct-17
+ */
+final class BenchmarkFixtures
+{
+    static final String ISSUER = "https://sso.authbeast.in";
+
+    static final String EMAIL = "benchmark@authbeast.in";
+
+    private static final AccountClaimData ACCOUNT = AccountClaimData.builder()
+        .userId("4f0c1b2e-7d41-4a5e-9a51-2f1e0c3b6a77")
+        .entityId("9c2d4e6f-1a3b-4c5d-8e7f-0a1b2c3d4e5f")
+        .entityRoleId("7b8c9d0e-2f3a-4b5c-9d6e-1f2a3b4c5d6e")
+        .username("benchmark")
+        .build();
+
+    private static final List<String> PRODUCT_PRIVILEGES = List.of("CARTXFLIP", "ORDER_READ", "ORDER_WRITE", "INVENTORY_READ", "INVENTORY_WRITE", "REPORT_READ");
+
+    private static final List<String> ENTITY_ROLE_PRIVILEGES = List.of("CARTXFLIP", "ORDER_READ", "ORDER_WRITE", "REPORT_READ");
+
+    private static final int LEGACY_KEY_SIZE = 2048;
+
+    private BenchmarkFixtures()
+    {
+    }
+
+    /**
+     * Returns security properties with the production token lifetimes and a random direct encryption secret.
+     */
+    static SecurityProperties securityProperties()
+    {
+        final byte[] masterSecret = new byte[32];
+        new SecureRandom().nextBytes(masterSecret);
+
+        final SecurityProperties securityProperties = new SecurityProperties();
+        securityProperties.setAccessTokenExpiration(TimeUnit.MINUTES.toMillis(15));
+        securityProperties.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(30));
+        securityProperties.getDirectEncryption().setMasterSecret(Base64.getEncoder().encodeToString(masterSecret));
+        return securityProperties;
+    }
+
+    /**
+     * Returns an initialized key ring over an in-memory key store. Callers shut it down when the benchmark ends.
+     */
+    static RsaKeyRing rsaKeyRing(SecurityProperties securityProperties) throws Exception
+    {
+        final RsaKeyRing rsaKeyRing = new RsaKeyRing(new InMemoryRsaService(), securityProperties);
+        rsaKeyRing.init();
+        return rsaKeyRing;
+    }
+
+    /**
+     * Returns a codec over the given key ring. Legacy tokens without a {@code kid} are not benchmarked, so no
+     * {@link com.zentois.framework.security.jwe.JweUtil} is wired in.
+     */
+    static JweTokenCodec jweTokenCodec(RsaKeyRing rsaKeyRing, SecurityProperties securityProperties) throws Exception
+    {
+        final EcKeyService ecKeyService = new InMemoryEcKeyService();
+        ecKeyService.init();
+        return new JweTokenCodec(rsaKeyRing, new AesKeyService(securityProperties), ecKeyService, null);
+    }
+
+    /**
+     * Returns a token service whose claim reference data is served from memory. Token revocation is not
+     * benchmarked, so the token claims cache has no Redis template to publish with and no refresh token family is revoked.
+     */
+    static JweService jweService(JweTokenCodec jweTokenCodec, SecurityProperties securityProperties)
+    {
+        final CacheProperties cacheProperties = new CacheProperties();
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        final PrivilegeClaimCache privilegeClaimCache = new PrivilegeClaimCache(null, null, null, null, cacheProperties, meterRegistry)
+        {
+            @Override
+            public AccountClaimData getAccountClaims(String email)
+            {
+                return ACCOUNT;
+            }
+
+            @Override
+            public List<String> getProductPrivileges(String appName)
+            {
+                return PRODUCT_PRIVILEGES;
+            }
+
+            @Override
+            public List<String> getEntityRolePrivileges(String entityRoleId)
+            {
+                return ENTITY_ROLE_PRIVILEGES;
+            }
+        };
+
+        final UserSessionIndex userSessionIndex = new UserSessionIndex(null, null, null)
+        {
+            @Override
+            public boolean isFamilyRevoked(String sessionId)
+            {
+                return false;
+            }
+        };
+
+        final TokenClaimsCache tokenClaimsCache = new TokenClaimsCache(null, cacheProperties, meterRegistry);
+        return new JweService(privilegeClaimCache, securityProperties, jweTokenCodec, new TokenViewResolver(jweTokenCodec, tokenClaimsCache, userSessionIndex));
+    }
+
+    /**
+     * Returns the payload of a signed in account.
+     */
+    static JwtPayloadData payload()
+    {
+        return JwtPayloadData.builder()
+            .email(EMAIL)
+            .uid(ACCOUNT.getUserId())
+            .sessionID("b1d6c7a0-51c5-4d0a-8b1f-2c8e6f9a3d10")
+            .bSID("0e7f3c2a-9b84-4f61-a2d5-6c1b8e4f7a09")
+            .build();
+    }
+
+    /**
+     * Keeps the legacy key pair and the key ring in memory instead of the key store folder.
+     */
+    private static final class InMemoryRsaService extends RsaService
+    {
+        private final Map<String, KeyPair> ring = new ConcurrentHashMap<>();
+
+        private final Map<String, Long> createdAt = new ConcurrentHashMap<>();
+
+        private final KeyPair legacyKeyPair;
+
+        private InMemoryRsaService() throws NoSuchAlgorithmException
+        {
+            super(new RsaGenerator());
+            this.legacyKeyPair = generateKeyPair(LEGACY_KEY_SIZE);
+        }
+
+        @Override
+        public KeyPair loadKeyPairFromFile()
+        {
+            return legacyKeyPair;
+        }
+
+        @Override
+        public Map<String, KeyPair> loadRingKeyPairs()
+        {
+            return Map.copyOf(ring);
+        }
+
+        @Override
+        public KeyPair loadRingKeyPair(String name)
+        {
+            return ring.get(name);
+        }
+
+        @Override
+        public long getRingKeyPairCreatedAt(String name)
+        {
+            return createdAt.getOrDefault(name, 0L);
+        }
+
+        @Override
+        public void storeRingKeyPair(String name, KeyPair keyPair)
+        {
+            ring.put(name, keyPair);
+            createdAt.put(name, System.currentTimeMillis());
+        }
+
+        @Override
+        public void deleteRingKeyPair(String name)
+        {
+            ring.remove(name);
+            createdAt.remove(name);
+        }
+    }
+
+    /**
+     * Generates the EC signing key pair in memory instead of loading it from the key store folder.
+     */
+    private static final class InMemoryEcKeyService extends EcKeyService
+    {
+        @Override
+        protected KeyPair loadOrGenerateKeyPair()
+        {
+            try
+            {
+                final KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+                return generator.generateKeyPair();
+            }
+            catch (GeneralSecurityException e)
+            {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package com.zentois.authbeast.benchmark;
+
+import java.security.KeyPairGenerator;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nimbusds.jose.EncryptionMethod;
+import com.nimbusds.jose.JWEAlgorithm;
+import com.nimbusds.jose.JWEHeader;
+import com.nimbusds.jwt.EncryptedJWT;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.zentois.authbeast.config.SecurityProperties;
+import com.zentois.authbeast.enums.allowed_origin.AllowedOriginMeta;
+import com.zentois.authbeast.security.aes.AesKeyService;
+import com.zentois.authbeast.security.rsa.RsaKeyEntry;
+
+/**
+ * Compares the throughput of RSA-OAEP-256 and direct ({@code dir}) A256GCM token encryption and decryption,
+ * using the same key holders as {@link com.zentois.authbeast.security.jwe.JweTokenCodec}.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JweAlgorithmBenchmark
+{
+    private static final AllowedOriginMeta APP = AllowedOriginMeta.CARTXFLIP;
+
+    private RsaKeyEntry rsaKey;
+
+    private AesKeyService aesKeyService;
+
+    private JWTClaimsSet claims;
+
+    private String rsaToken;
+
+    private String directToken;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        final KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        rsaKey = new RsaKeyEntry(generator.generateKeyPair(), System.currentTimeMillis());
+
+        final byte[] masterSecret = new byte[32];
+        new SecureRandom().nextBytes(masterSecret);
+        final SecurityProperties securityProperties = new SecurityProperties();
+        securityProperties.getDirectEncryption().setMasterSecret(Base64.getEncoder().encodeToString(masterSecret));
+        aesKeyService = new AesKeyService(securityProperties);
+
+        claims = new JWTClaimsSet.Builder()
+            .issuer(APP.getUrl())
+            .issueTime(new Date())
+            .expirationTime(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(30)))
+            .claim("email", "benchmark@authbeast.in")
+            .claim("uID", "4f0c1b2e-7d41-4a5e-9a51-2f1e0c3b6a77")
+            .claim("sessionID", "b1d6c7a0-51c5-4d0a-8b1f-2c8e6f9a3d10")
+            .claim("bSID", "0e7f3c2a-9b84-4f61-a2d5-6c1b8e4f7a09")
+            .claim("tokenType", "REFRESH")
+            .build();
+
+        rsaToken = rsaEncrypt();
+        directToken = directEncrypt();
+    }
+
+    @Benchmark
+    public String rsaEncrypt() throws Exception
+    {
+        final EncryptedJWT jwt = new EncryptedJWT(new JWEHeader.Builder(JWEAlgorithm.RSA_OAEP_256, EncryptionMethod.A256GCM).keyID(rsaKey.getKid()).build(), claims);
+        jwt.encrypt(rsaKey.getEncrypter());
+        return jwt.serialize();
+    }
+
+    @Benchmark
+    public JWTClaimsSet rsaDecrypt() throws Exception
+    {
+        final EncryptedJWT jwt = EncryptedJWT.parse(rsaToken);
+        jwt.decrypt(rsaKey.getDecrypter());
+        return jwt.getJWTClaimsSet();
+    }
+
+    @Benchmark
+    public String directEncrypt() throws Exception
+    {
+        final EncryptedJWT jwt = new EncryptedJWT(new JWEHeader.Builder(JWEAlgorithm.DIR, EncryptionMethod.A256GCM).keyID(APP.name()).build(), claims);
+        jwt.encrypt(aesKeyService.getEncrypter(APP));
+        return jwt.serialize();
+    }
+
+    @Benchmark
+    public JWTClaimsSet directDecrypt() throws Exception
+    {
+        final EncryptedJWT jwt = EncryptedJWT.parse(directToken);
+        jwt.decrypt(aesKeyService.getDecrypter(APP));
+        return jwt.getJWTClaimsSet();
+    }
+}
\ No newline at end of file
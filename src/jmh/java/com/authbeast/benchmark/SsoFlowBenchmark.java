@@ -0,0 +1,101 @@
+package com.zentois.authbeast.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.zentois.authbeast.config.RedisKeyProperties;
+import com.zentois.authbeast.dto.token.SsoTokenData;
+import com.zentois.authbeast.enums.allowed_origin.AllowedOriginMeta;
+import com.zentois.authbeast.enums.redis.ValueFormat;
+import com.zentois.authbeast.model.SessionDataDTO;
+import com.zentois.authbeast.utils.codec.CacheValueCodec;
+import com.zentois.authbeast.utils.hash.HashingUtil;
+import com.zentois.util.ObjectMapper;
+
+/**
+ * Measures the CPU bound steps of the SSO code exchange: hashing the PKCE code verifier and the JSON and compact
+ * round trips of the intermediate {@link SsoTokenData} kept in Redis.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SsoFlowBenchmark
+{
+    private static final String CODE_VERIFIER = "dBjftJeZ4CVP-mB92K27uhbUJU1p1r_wW1gFWFOEjXk";
+
+    private SsoTokenData tokenData;
+
+    private String tokenDataJson;
+
+    private CacheValueCodec compactCodec;
+
+    private byte[] tokenDataCompact;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        final AllowedOriginMeta app = AllowedOriginMeta.CARTXFLIP;
+        tokenData = SsoTokenData.builder()
+            .appName(app.getAppName())
+            .origin(app.getUrl())
+            .sessionData(SessionDataDTO.builder()
+                .email(BenchmarkFixtures.EMAIL)
+                .build())
+            .codeChallenge(HashingUtil.hashCodeVerifier(CODE_VERIFIER, "SHA-256"))
+            .browserSessionId("0e7f3c2a-9b84-4f61-a2d5-6c1b8e4f7a09")
+            .build();
+        tokenDataJson = writeTokenData();
+
+        final RedisKeyProperties redisKeyProperties = new RedisKeyProperties();
+        redisKeyProperties.getCodec().setFormat(ValueFormat.COMPACT);
+        compactCodec = new CacheValueCodec(redisKeyProperties);
+        tokenDataCompact = writeTokenDataCompact();
+    }
+
+    @Benchmark
+    public String hashCodeVerifier()
+    {
+        return HashingUtil.hashCodeVerifier(CODE_VERIFIER, "SHA-256");
+    }
+
+    @Benchmark
+    public String writeTokenData() throws Exception
+    {
+        return ObjectMapper.GENERIC_MAPPER.writeValueAsString(tokenData);
+    }
+
+    @Benchmark
+    public SsoTokenData readTokenData() throws Exception
+    {
+        return ObjectMapper.GENERIC_MAPPER.readValue(tokenDataJson, SsoTokenData.class);
+    }
+
+    @Benchmark
+    public byte[] writeTokenDataCompact() throws Exception
+    {
+        return compactCodec.encode(tokenData);
+    }
+
+    @Benchmark
+    public SsoTokenData readTokenDataCompact() throws Exception
+    {
+        return compactCodec.decode(tokenDataCompact, SsoTokenData.class);
+    }
+}
\ No newline at end of file
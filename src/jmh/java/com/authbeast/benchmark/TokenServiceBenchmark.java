@@ -0,0 +1,96 @@
+package com.zentois.authbeast.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.zentois.authbeast.config.SecurityProperties;
+import com.zentois.authbeast.enums.allowed_origin.AllowedOriginMeta;
+import com.zentois.authbeast.model.JwtPayloadData;
+import com.zentois.authbeast.security.jwe.JweService;
+import com.zentois.authbeast.security.jwe.JweTokenCodec;
+import com.zentois.authbeast.security.rsa.RsaKeyRing;
+
+/**
+ * Measures the token operations of {@link JweService} on the request path: minting access and refresh tokens
+ * and reading the claims of a presented refresh token.
+ *
+ * {@code getClaimsFromToken} is served from the token claims cache after its first call, so the full decryption
+ * is measured separately through {@link JweTokenCodec#decrypt(String)}.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServiceBenchmark
+{
+    private static final String APP_NAME = AllowedOriginMeta.CARTXFLIP.getAppName();
+
+    private RsaKeyRing rsaKeyRing;
+
+    private JweTokenCodec jweTokenCodec;
+
+    private JweService jweService;
+
+    private JwtPayloadData payload;
+
+    private String refreshToken;
+
+    @Setup
+    public void setup() throws Exception
+    {
+        final SecurityProperties securityProperties = BenchmarkFixtures.securityProperties();
+        rsaKeyRing = BenchmarkFixtures.rsaKeyRing(securityProperties);
+        jweTokenCodec = BenchmarkFixtures.jweTokenCodec(rsaKeyRing, securityProperties);
+        jweService = BenchmarkFixtures.jweService(jweTokenCodec, securityProperties);
+        payload = BenchmarkFixtures.payload();
+        refreshToken = generateRefreshToken();
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        rsaKeyRing.shutdown();
+    }
+
+    @Benchmark
+    public String generateToken() throws Exception
+    {
+        return jweService.generateToken(payload, BenchmarkFixtures.ISSUER, APP_NAME);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() throws Exception
+    {
+        return jweService.generateRefreshToken(payload, BenchmarkFixtures.ISSUER, APP_NAME);
+    }
+
+    @Benchmark
+    public JWTClaimsSet getClaimsFromToken() throws Exception
+    {
+        return jweService.getClaimsFromToken(refreshToken);
+    }
+
+    @Benchmark
+    public JWTClaimsSet decryptToken() throws Exception
+    {
+        return jweTokenCodec.decrypt(refreshToken);
+    }
+}
\ No newline at end of file
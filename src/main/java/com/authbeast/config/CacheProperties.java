@@ -0,0 +1,56 @@
+package com.zentois.authbeast.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties for the in-process caches of the SSO server.
+ * Every cache is bounded by size and time so a cold or abusive key space can not grow the heap without limit.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@Configuration
+@Getter
+@PropertySource("classpath:cache.properties")
+@ConfigurationProperties(prefix = "cache")
+@Setter
+public class CacheProperties
+{
+    private final Bounded accountLookup = new Bounded();
+
+    private final Bounded claimProduct = new Bounded();
+
+    private final Bounded claimEntityRole = new Bounded();
+
+    private final Bounded tokenClaims = new Bounded();
+
+    private final Near near = new Near();
+
+    /**
+     * Size and time bounds of a single in-process cache.
+     */
+    @Getter
+    @Setter
+    public static class Bounded
+    {
+        private long maximumSize = 10_000;
+
+        private long ttlSeconds = 300;
+    }
+
+    /**
+     * Bounds of the optional in-process near cache in front of Redis, which is off unless enabled.
+     */
+    @Getter
+    @Setter
+    public static class Near extends Bounded
+    {
+        private boolean enabled;
+    }
+}
\ No newline at end of file
@@ -1,41 +1,115 @@
 package com.zentois.authbeast.config;
 
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.LettuceClientConfigurationBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
-import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisIndexedHttpSession;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zentois.authbeast.enums.redis.RedisChannel;
+import com.zentois.authbeast.enums.redis.ValueFormat;
+import com.zentois.authbeast.utils.cache.DebouncedSessionRepository;
+import com.zentois.authbeast.utils.cache.PrivilegeClaimCache;
+import com.zentois.authbeast.utils.cache.RedisNearCache;
+import com.zentois.authbeast.utils.cache.TokenClaimsCache;
+import com.zentois.authbeast.utils.cache.TtlRefreshPolicy;
+import com.zentois.authbeast.utils.codec.CacheValueCodec;
+import com.zentois.authbeast.utils.codec.CompactRedisSerializer;
+
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
 
 /**
  * Configures the Redis-based session management for the SSO server.
  * This class implements the BeanClassLoaderAware interface to provide the
  * class loader to the ObjectMapper used for serializing session data.
+ * Sessions are kept in the indexed repository, which maintains the principal name index the
+ * session registry of {@link SecurityConfig} uses to enforce the session limit across all nodes.
+ * Sessions are flushed once per request and only the attributes set during the request are written, which are
+ * the defaults of Spring Session. The per request write of the last access time is debounced by the
+ * {@link DebouncedSessionRepository}.
  * 
  * @author Ashwani Singh
- * @version 1.0
+ * @version 1.2
  * @since 2024-Nov-19
  */
 @Configuration
-@EnableRedisHttpSession(maxInactiveIntervalInSeconds = 2592000)
+@EnableRedisIndexedHttpSession(maxInactiveIntervalInSeconds = 2592000)
 @RedisHash
 @EnableRedisRepositories
 public class RedisConfig
 {
+    private static final Duration CLUSTER_TOPOLOGY_REFRESH_PERIOD = Duration.ofSeconds(30);
+
     /**
-     * Configures the default Redis serializer for Spring Session using a GenericJackson2JsonRedisSerializer.
-     * This serializer is used to serialize session objects to JSON format using the provided ObjectMapper.
+     * Configures the default Redis serializer for Spring Session in the format of {@code redis-key.codec.format}.
+     * The JSON format uses a GenericJackson2JsonRedisSerializer with the provided ObjectMapper. The compact format
+     * writes the same object graph as Jackson Smile with LZ4 compression above the threshold and still reads the
+     * session attributes written as JSON, so existing 30 day sessions survive the switch.
      *
      * @param objectMapper The ObjectMapper used for JSON serialization.
-     * @return A RedisSerializer for serializing session objects to JSON.
+     * @param redisKeyProperties The properties holding the value format.
+     * @return A RedisSerializer for serializing session objects.
+     */
+    @Bean
+    RedisSerializer<Object> springSessionDefaultRedisSerializer(ObjectMapper objectMapper, RedisKeyProperties redisKeyProperties)
+    {
+        final RedisSerializer<Object> jsonSerializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        final RedisKeyProperties.Codec codec = redisKeyProperties.getCodec();
+        if (codec.getFormat() == ValueFormat.JSON)
+        {
+            return jsonSerializer;
+        }
+        final RedisSerializer<Object> smileSerializer = new GenericJackson2JsonRedisSerializer(objectMapper.copyWith(CacheValueCodec.createSmileFactory()));
+        return new CompactRedisSerializer(smileSerializer, jsonSerializer, codec.getCompressionThreshold());
+    }
+
+    /**
+     * Wraps the indexed session repository so the last access time of a session, and with it the expiry of all its
+     * keys, is only written once less than {@code redis-key.ttl-refresh.threshold} of the timeout is left.
+     * The wrapper is the primary repository, so the session repository filter and the session registry use it.
+     *
+     * @param sessionRepository The indexed Redis session repository.
+     * @param ttlRefreshPolicy The policy deciding when the expiry is extended.
+     * @return The session repository debouncing the last access time.
      */
     @Bean
-    RedisSerializer<Object> springSessionDefaultRedisSerializer(ObjectMapper objectMapper)
+    @Primary
+    DebouncedSessionRepository debouncedSessionRepository(RedisIndexedSessionRepository sessionRepository, TtlRefreshPolicy ttlRefreshPolicy)
     {
-        return new GenericJackson2JsonRedisSerializer(objectMapper);
+        return new DebouncedSessionRepository(sessionRepository, ttlRefreshPolicy);
+    }
+
+    /**
+     * Creates the template for values the SSO server writes as raw bytes, such as the values encoded by the
+     * {@link CacheValueCodec}. Keys are plain strings like those of the string template.
+     *
+     * @param connectionFactory The Redis connection factory.
+     * @return The template with string keys and byte array values.
+     */
+    @Bean
+    RedisTemplate<String, byte[]> binaryRedisTemplate(RedisConnectionFactory connectionFactory)
+    {
+        final RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(RedisSerializer.string());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        return template;
     }
 
     /**
@@ -49,4 +123,46 @@ public class RedisConfig
     {
         return new ObjectMapper();
     }
+
+    /**
+     * Creates the container that dispatches Redis pub/sub messages to the in-process cache listeners.
+     * The privilege claim cache is subscribed to the privilege mapping channel so a mapping change made
+     * by the user management side is visible in the next minted token, and the token claims cache is
+     * subscribed to the token revocation channel so a signout on one instance is honoured by all of them.
+     * The near cache is subscribed to its invalidation channel so a write on one instance drops the key everywhere.
+     *
+     * @param connectionFactory The Redis connection factory.
+     * @param privilegeClaimCache The claim cache to invalidate on mapping changes.
+     * @param tokenClaimsCache The decrypted token cache to invalidate on signout.
+     * @param redisNearCache The near cache to invalidate on writes of other instances.
+     * @return The configured listener container.
+     */
+    @Bean
+    RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory, PrivilegeClaimCache privilegeClaimCache, TokenClaimsCache tokenClaimsCache, RedisNearCache redisNearCache)
+    {
+        final RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(privilegeClaimCache, new ChannelTopic(RedisChannel.PRIVILEGE_MAPPING_CHANGED.getChannel()));
+        container.addMessageListener(tokenClaimsCache, new ChannelTopic(RedisChannel.TOKEN_REVOKED.getChannel()));
+        container.addMessageListener(redisNearCache, new ChannelTopic(RedisChannel.NEAR_CACHE_INVALIDATED.getChannel()));
+        return container;
+    }
+
+    /**
+     * Keeps the Lettuce view of the cluster topology current when the SSO server runs against a Redis Cluster.
+     * The topology is refreshed periodically and on every adaptive trigger, so a failover or a slot migration
+     * redirects the commands to the new owner instead of failing them with {@code MOVED} until a restart.
+     *
+     * @return The customizer applying the cluster client options.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.data.redis.cluster", name = "nodes")
+    LettuceClientConfigurationBuilderCustomizer clusterTopologyRefreshCustomizer()
+    {
+        final ClusterTopologyRefreshOptions topologyRefreshOptions = ClusterTopologyRefreshOptions.builder()
+            .enablePeriodicRefresh(CLUSTER_TOPOLOGY_REFRESH_PERIOD)
+            .enableAllAdaptiveRefreshTriggers()
+            .build();
+        return builder -> builder.clientOptions(ClusterClientOptions.builder().topologyRefreshOptions(topologyRefreshOptions).build());
+    }
 }
\ No newline at end of file
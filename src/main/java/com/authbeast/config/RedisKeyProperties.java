@@ -0,0 +1,139 @@
+package com.zentois.authbeast.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import com.zentois.authbeast.enums.redis.RedisKeyKind;
+import com.zentois.authbeast.enums.redis.ValueFormat;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Configuration properties for the keys the SSO server writes to Redis: the TTL of every key kind, the
+ * background audit that reports keys living without a TTL and the format values are written in.
+ *
+ * @author Ashwani Singh
+ * @version 1.3
+ * @since 2026-Oct-17
+ */
+@Configuration
+@Getter
+@PropertySource("classpath:redis.properties")
+@ConfigurationProperties(prefix = "redis-key")
+@Setter
+public class RedisKeyProperties
+{
+    private final Ttl ttl = new Ttl();
+
+    private final Audit audit = new Audit();
+
+    private final Purge purge = new Purge();
+
+    private final Codec codec = new Codec();
+
+    private final TtlRefresh ttlRefresh = new TtlRefresh();
+
+    /**
+     * Returns the TTL keys of the given kind are written with.
+     *
+     * @param kind The kind of the key.
+     * @return The TTL of the key kind.
+     */
+    public Duration getTtl(RedisKeyKind kind)
+    {
+        return switch (kind)
+        {
+            case SSO_TOKEN -> ttl.getSsoToken();
+            case OTP_SSO_TOKEN -> ttl.getOtpSsoToken();
+            case USER_APP_INFO -> ttl.getUserAppInfo();
+            case OTP -> ttl.getOtp();
+            case USER_SESSIONS -> ttl.getUserSessions();
+            case FAILED_LOGINS -> ttl.getFailedLogins();
+            case REVOKED_TOKEN_FAMILY -> ttl.getRevokedTokenFamily();
+            case EMAIL_OUTBOX -> ttl.getEmailOutbox();
+            case EMAIL_DEAD_LETTERS -> ttl.getEmailDeadLetters();
+        };
+    }
+
+    /**
+     * TTL of every key kind.
+     */
+    @Getter
+    @Setter
+    public static class Ttl
+    {
+        private Duration ssoToken = Duration.ofMinutes(1);
+
+        private Duration otpSsoToken = Duration.ofMinutes(5);
+
+        private Duration userAppInfo = Duration.ofDays(1);
+
+        private Duration otp = Duration.ofMinutes(2);
+
+        private Duration userSessions = Duration.ofDays(30);
+
+        private Duration failedLogins = Duration.ofMinutes(15);
+
+        private Duration revokedTokenFamily = Duration.ofDays(30);
+
+        private Duration emailOutbox = Duration.ofDays(1);
+
+        private Duration emailDeadLetters = Duration.ofDays(7);
+    }
+
+    /**
+     * Settings of the audit of keys without a TTL.
+     */
+    @Getter
+    @Setter
+    public static class Audit
+    {
+        private boolean enabled = true;
+
+        private long interval = 3600000;
+
+        private int scanCount = 1000;
+
+        private String excludedPrefix = "spring:session:";
+    }
+
+    /**
+     * Settings of the non-blocking purge of the key namespace.
+     */
+    @Getter
+    @Setter
+    public static class Purge
+    {
+        private int batchSize = 500;
+
+        private long maxKeysPerSecond = 5000;
+    }
+
+    /**
+     * Format of the values written to Redis, applied to Spring Session attributes and to the SSO cache values.
+     */
+    @Getter
+    @Setter
+    public static class Codec
+    {
+        private ValueFormat format = ValueFormat.JSON;
+
+        private int compressionThreshold = 512;
+    }
+
+    /**
+     * Settings of the debounced sliding TTL refresh of keys touched on every request.
+     */
+    @Getter
+    @Setter
+    public static class TtlRefresh
+    {
+        private double threshold = 0.5;
+
+        private long maxTrackedKeys = 100000;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.zentois.authbeast.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled background jobs of the SSO server, such as the RSA key ring rotation.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig
+{
+}
\ No newline at end of file
@@ -7,23 +7,30 @@ import org.springframework.data.domain.AuditorAware;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.security.SpringSessionBackedSessionRegistry;
 import org.springframework.web.cors.CorsConfigurationSource;
 
 import com.zentois.authbeast.config.provider.CustomAuthenticationProvider;
 import com.zentois.authbeast.model.AuditorAwareImpl;
 import com.zentois.authbeast.security.filter.JwtAuthenticationFilter;
+import com.zentois.authbeast.security.password.BcryptCostCalibrator;
 
 import lombok.RequiredArgsConstructor;
 
 /**
  * This class configures Spring Security for the NCEPH User Registration application.
  * It integrates with Redis session management to prevent duplicate session creation.
+ * The session limit is enforced with a session registry backed by the indexed Redis session repository, so
+ * every node sees the sessions of a principal created on any other node.
  *
  * @author Ashwani Singh
- * @version 1.1
+ * @version 1.2
  * @since 2024-July-10
  */
 // @EnableMethodSecurity(securedEnabled = true) // In this implementation we are not having any use case yet....
@@ -40,10 +47,15 @@ public class SecurityConfig
 
     private final BeanFactory beanFactory;
 
+    /**
+     * Returns the BCrypt password encoder with the cost factor configured or calibrated for this machine.
+     *
+     * @return the BCrypt password encoder
+     */
     @Bean
 	BCryptPasswordEncoder bCryptPasswordEncoder()
 	{
-		return new BCryptPasswordEncoder();
+		return new BCryptPasswordEncoder(BcryptCostCalibrator.resolveStrength(securityProperties.getPasswordHashing()));
 	}
 
     /**
@@ -57,6 +69,20 @@ public class SecurityConfig
 		return new AuditorAwareImpl();
 	}
 
+    /**
+     * Returns the session registry used to enforce the maximum number of sessions per principal.
+     * The sessions of a principal are looked up in the principal name index of the Redis session repository,
+     * instead of the in-memory registry of a single node.
+     *
+     * @param sessionRepository the indexed Redis session repository
+     * @return the session registry backed by Spring Session
+     */
+    @Bean
+    <S extends Session> SpringSessionBackedSessionRegistry<S> sessionRegistry(FindByIndexNameSessionRepository<S> sessionRepository)
+    {
+        return new SpringSessionBackedSessionRegistry<>(sessionRepository);
+    }
+
     /**
      * Configures the security filter chain for the application.
      * 
@@ -70,11 +96,12 @@ public class SecurityConfig
      * customization of Content Security Policy (CSP) headers.</p>
      *
      * @param http the {@link HttpSecurity} to modify with security configurations
+     * @param sessionRegistry the cluster-wide session registry the session limit is checked against
      * @return the configured {@link SecurityFilterChain}
      * @throws Exception if an error occurs while configuring the security filter chain
      */
     @Bean
-    SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception
+    SecurityFilterChain securityFilterChain(HttpSecurity http, SessionRegistry sessionRegistry) throws Exception
     {
         http
             .authenticationProvider(beanFactory.getBean(CustomAuthenticationProvider.class))
@@ -82,7 +109,8 @@ public class SecurityConfig
             .cors(cors -> cors.configurationSource(corsConfigurationSource))
             .sessionManagement(session -> {
                 session.sessionCreationPolicy(SessionCreationPolicy.IF_REQUIRED)
-                .maximumSessions(1);
+                .maximumSessions(1)
+                .sessionRegistry(sessionRegistry);
             })
             .headers(headers -> headers
             // Prevents the application from being embedded in iframes/frames
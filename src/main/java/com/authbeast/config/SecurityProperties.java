@@ -21,7 +21,7 @@ import lombok.Setter;
  * Configuration properties for security-related settings.
  *
  * @author Ashwani Singh
- * @version 1.1
+ * @version 1.3
  * @since 2024-July-31
  */
 @Configuration
@@ -37,6 +37,14 @@ public class SecurityProperties
 
     private String senderEmail;
 
+    private final KeyRing keyRing = new KeyRing();
+
+    private final DirectEncryption directEncryption = new DirectEncryption();
+
+    private final PasswordHashing passwordHashing = new PasswordHashing();
+
+    private final EmailOutbox emailOutbox = new EmailOutbox();
+
     /**
      * List of allowed origins for CORS.
      * 
@@ -98,4 +106,146 @@ public class SecurityProperties
                 .map(Endpoint::getPath)
                 .toArray(String[]::new);
     }
+
+    /**
+     * Settings of the rotating RSA key ring used to encrypt tokens.
+     */
+    @Getter
+    @Setter
+    public static class KeyRing
+    {
+        /**
+         * Size in bits of newly generated keys (2048 or 3072).
+         */
+        private int keySize = 2048;
+
+        /**
+         * Time in milliseconds a key stays active before the pre-generated next key replaces it.
+         */
+        private long rotationInterval = 604800000;
+
+        /**
+         * Time in milliseconds a retired key is kept for decryption, 0 to keep it for the refresh token lifetime.
+         */
+        private long retireAfter;
+
+        /**
+         * Time in milliseconds a key id that was not found in the key store is not looked up again.
+         */
+        private long missingKidTtl = 30000;
+    }
+
+    /**
+     * Settings of the direct ({@code dir} + A256GCM) token encryption used by applications with the DIRECT token profile.
+     */
+    @Getter
+    @Setter
+    public static class DirectEncryption
+    {
+        /**
+         * Base64 encoded master secret (at least 32 bytes) the per application keys are derived from.
+         */
+        private String masterSecret;
+    }
+
+    /**
+     * Settings of the bounded executor BCrypt password hashing runs on.
+     */
+    @Getter
+    @Setter
+    public static class PasswordHashing
+    {
+        /**
+         * Number of threads hashing passwords, 0 for one per available processor.
+         */
+        private int threads;
+
+        /**
+         * Number of hashing requests that may wait for a thread before new ones are rejected.
+         */
+        private int queueCapacity = 64;
+
+        /**
+         * Time in milliseconds a request waits for its hash before it is rejected.
+         */
+        private long maxWait = 5000;
+
+        /**
+         * Seconds a rejected client is told to wait in the {@code Retry-After} header.
+         */
+        private int retryAfterSeconds = 2;
+
+        /**
+         * BCrypt cost factor of new hashes, 0 to calibrate it on startup against the target hash time.
+         */
+        private int strength;
+
+        /**
+         * Time in milliseconds a single hash should take on this machine, used by the startup calibration.
+         */
+        private long targetMillis = 250;
+
+        /**
+         * Lowest cost factor the calibration may pick.
+         */
+        private int minStrength = 10;
+
+        /**
+         * Highest cost factor the calibration may pick.
+         */
+        private int maxStrength = 14;
+    }
+
+    /**
+     * Settings of the outbox emails are sent from in the background.
+     */
+    @Getter
+    @Setter
+    public static class EmailOutbox
+    {
+        /**
+         * Whether this node sends the emails of the outbox, the emails are enqueued either way.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Number of threads sending emails.
+         */
+        private int threads = 4;
+
+        /**
+         * Maximum number of emails claimed from the outbox in a single round trip.
+         */
+        private int batchSize = 20;
+
+        /**
+         * Time in milliseconds between two polls of the outbox.
+         */
+        private long pollInterval = 500;
+
+        /**
+         * Time in milliseconds a claimed email is reserved for this node before any node may send it again.
+         */
+        private long lease = 60000;
+
+        /**
+         * Number of attempts before an email is moved to the dead letters.
+         */
+        private int maxAttempts = 5;
+
+        /**
+         * Time in milliseconds before the first retry, doubled on every further retry.
+         */
+        private long initialBackoff = 5000;
+
+        /**
+         * Upper bound in milliseconds of the time between two retries.
+         */
+        private long maxBackoff = 300000;
+
+        /**
+         * Maximum number of dead letters kept.
+         */
+        private int deadLetterLimit = 10000;
+    }
 }
\ No newline at end of file
@@ -1,26 +1,26 @@
 package com.zentois.authbeast.config.provider;
 
-import org.springframework.beans.factory.BeanFactory;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Component;
 
-import com.zentois.framework.email.dto.Context;
 import com.zentois.framework.email.enums.EmailType;
-import com.zentois.framework.email.service.EmailSenderService;
 import com.zentois.authbeast.config.CustomAuthentication;
-import com.zentois.authbeast.config.SecurityProperties;
 import com.zentois.authbeast.dto.JwtAccountDTO;
 import com.zentois.authbeast.dto.JwtEntityDTO;
 import com.zentois.authbeast.enums.ErrorDescription;
 import com.zentois.authbeast.exception.AccountArchivedException;
 import com.zentois.authbeast.exception.AccountLockedException;
+import com.zentois.authbeast.exception.PasswordHashingOverloadedException;
 import com.zentois.authbeast.model.nceph_entity.Account;
 import com.zentois.authbeast.repository.AccountRepository;
+import com.zentois.authbeast.security.password.PasswordHashingService;
+import com.zentois.authbeast.utils.cache.AccountLookupCache;
+import com.zentois.authbeast.utils.cache.FailedLoginCounter;
+import com.zentois.authbeast.utils.email.EmailOutbox;
 
 import lombok.RequiredArgsConstructor;
 
@@ -30,13 +30,20 @@ import lombok.RequiredArgsConstructor;
  * This provider retrieves user account details from the AccountRepository and verifies
  * the provided credentials. It also handles failed login attempts and locks the account
  * if the maximum number of failed attempts is reached.
+ * The password is verified on the bounded executor of the {@link PasswordHashingService}, so a burst of
+ * sign-in attempts is shed with a 503 instead of pinning every servlet thread. A stored hash with a lower
+ * cost than the current one is replaced on the next successful login, unless the executor is saturated at that
+ * moment: the rehash is best effort and never fails a login whose password was verified. Failed attempts are counted in Redis
+ * by the {@link FailedLoginCounter}, so the account row is only written when the account is locked or its
+ * password hash is upgraded. The authenticated account is put into the {@link AccountLookupCache}, so minting
+ * the first token of the sign-in does not read the same row again.
  * 
  * Use this provider ensures that only authenticated users can access secured resources.
  * 
  * Note: Ensure that the AccountRepository is properly configured for this provider to function.
  * 
  * @author Ashwani Singh
- * @version 1.0
+ * @version 1.5
  * @since 2024-Nov-04
  */
 @Component
@@ -47,11 +54,13 @@ public class CustomAuthenticationProvider implements AuthenticationProvider
 
     private final AccountRepository accountRepository;
 
-    private final EmailSenderService emailSenderService;
+    private final EmailOutbox emailOutbox;
 
-    private final BeanFactory beanFactory;
+    private final PasswordHashingService passwordHashingService;
 
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final FailedLoginCounter failedLoginCounter;
+
+    private final AccountLookupCache accountLookupCache;
 
     /**
      * Authenticates the given user using the provided credentials.
@@ -59,6 +68,7 @@ public class CustomAuthenticationProvider implements AuthenticationProvider
      * @param authentication the Authentication object containing the user's credentials
      * @return the authenticated user object
      * @throws AuthenticationException if the user is not found, the account is locked, or the credentials are invalid
+     * @throws com.zentois.authbeast.exception.PasswordHashingOverloadedException if the password hashing executor is saturated
      */
     @Override
     public Authentication authenticate(Authentication authentication) throws AuthenticationException
@@ -80,13 +90,30 @@ public class CustomAuthenticationProvider implements AuthenticationProvider
             throw new AccountArchivedException(ErrorDescription.ACCOUNT_ARCHIVED_MESSAGE.getMessage());
         }
 
-        if (!passwordEncoder.matches(authentication.getCredentials().toString(), account.getPassword()))
+        final String rawPassword = authentication.getCredentials().toString();
+        if (!passwordHashingService.matches(rawPassword, account.getPassword()))
         {
             handleFailedLogin(account);
             throw new BadCredentialsException(ErrorDescription.INVALID_CREDENTIAL.getMessage());
         }
 
-        resetFailedAttempts(account);
+        boolean changed = false;
+        if (passwordHashingService.needsRehash(account.getPassword()))
+        {
+            try
+            {
+                account.setPassword(passwordHashingService.encode(rawPassword));
+                changed = true;
+            }
+            catch (PasswordHashingOverloadedException e)
+            {
+                // the password was verified, the rehash is retried on a later login
+            }
+        }
+
+        resetFailedAttempts(account, changed);
+        // the token minted right after the sign-in reads the same account
+        accountLookupCache.put(account);
 
         final JwtAccountDTO jwtAccountDTO = buildJwtAccountDTO(account);
 
@@ -111,56 +138,61 @@ public class CustomAuthenticationProvider implements AuthenticationProvider
     /**
      * Handles failed login attempts by incrementing the failed attempts count for the account.
      *
-     * This method checks if the failed attempts have reached the maximum allowed attempts.
-     * If so, it locks the account to prevent further login attempts. The updated account
-     * information is then saved to the account repository.
+     * The failure is counted in Redis within the failed login window. Only when the failed attempts
+     * reach the maximum allowed attempts the account is locked to prevent further login attempts, and
+     * only then the account information is saved to the account repository.
      *
      * @param account The account for which the login attempt failed.
      */
     private void handleFailedLogin(Account account)
     {
-        int failedAttempts = account.getFailedAttempts() + 1;
-        account.setFailedAttempts(failedAttempts);
+        final int failedAttempts = failedLoginCounter.recordFailure(account.getEmail());
         if (failedAttempts >= MAX_FAILED_ATTEMPTS)
         {
+            account.setFailedAttempts(failedAttempts);
             lockAccount(account);
+            accountRepository.save(account);
+            failedLoginCounter.reset(account.getEmail());
         }
-        accountRepository.save(account);
     }
 
     /**
      * Resets the failed login attempts count for the specified account.
      *
-     * This method sets the failedAttempts field to 0 and persists the updated account
-     * information to the accountRepository. It is typically called after a successful
-     * authentication to ensure that the failed attempts counter is cleared.
+     * This method clears the failed login counter in Redis. It is typically called after a successful
+     * authentication to ensure that the failed attempts counter is cleared. The account is only saved
+     * if it was changed or still carries a failed attempts count written before the counter moved to Redis.
      *
      * @param account The account for which the failed attempts count should be reset.
+     * @param changed Whether the account was changed during the authentication and must be saved.
      */
-    private void resetFailedAttempts(Account account)
+    private void resetFailedAttempts(Account account, boolean changed)
     {
-        account.setFailedAttempts(0);
-        accountRepository.save(account);
+        failedLoginCounter.reset(account.getEmail());
+        if (account.getFailedAttempts() != 0)
+        {
+            account.setFailedAttempts(0);
+            changed = true;
+        }
+        if (changed)
+        {
+            accountRepository.save(account);
+        }
     }
 
     /**
      * Locks the account and sends an email notification to the user.
      *
-     * This method disables the account, and sends an email to the user's email address
+     * This method disables the account, and enqueues an email to the user's email address
      * informing them that their account has been locked due to excessive failed login
-     * attempts.
+     * attempts. The email is sent in the background by the EmailOutboxWorker.
      *
      * @param account the account to be locked
      */
     private void lockAccount(Account account)
     {
         account.setEnabled(false);
-        final Context context = Context.builder()
-                .emailType(EmailType.ACCOUNT_LOCK_INFORMATION_EMAIL)
-                .emailReceiver(account.getEmail())
-                .emailSender(beanFactory.getBean(SecurityProperties.class).getSenderEmail())
-                .build();
-        emailSenderService.sendEmail(context);
+        emailOutbox.enqueue(EmailType.ACCOUNT_LOCK_INFORMATION_EMAIL, account.getEmail());
     }
 
     /**
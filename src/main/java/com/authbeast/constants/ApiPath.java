@@ -41,4 +41,10 @@ public class ApiPath
      * Endpoint for sso token verification 
      */
     public static final String VERIFICATION_SSOTOKEN = "/verification/ssotoken";
+
+    // JwksController endpoints
+    /**
+     * Endpoint for the public keys that verify signed access tokens
+     */
+    public static final String JWKS = "/.well-known/jwks.json";
 }
\ No newline at end of file
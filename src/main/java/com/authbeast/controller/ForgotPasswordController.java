@@ -20,18 +20,17 @@ import org.springframework.web.servlet.ModelAndView;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.zentois.framework.email.dto.Context;
 import com.zentois.framework.email.enums.EmailType;
-import com.zentois.framework.email.service.EmailSenderService;
-import com.zentois.authbeast.config.SecurityProperties;
 import com.zentois.authbeast.constants.ApiPath;
-import com.zentois.authbeast.dto.context.OtpParam;
 import com.zentois.authbeast.dto.otp.OtpSsoDto;
 import com.zentois.authbeast.dto.otp.ResendOtpDto;
 import com.zentois.authbeast.enums.ErrorDescription;
 import com.zentois.authbeast.enums.PathEnum;
+import com.zentois.authbeast.enums.otp.OtpVerificationResult;
 import com.zentois.authbeast.service.ForgotPasswordService;
 import com.zentois.authbeast.utils.UrlBuilderUtil;
+import com.zentois.authbeast.utils.cache.UserSessionIndex;
+import com.zentois.authbeast.utils.email.EmailOutbox;
 import com.zentois.authbeast.utils.mfa.email.otp.OtpHelper;
 import com.zentois.authbeast.utils.model_view.ModelViewBuilderUtil;
 import com.zentois.authbeast.utils.url.UrlUtils;
@@ -43,9 +42,10 @@ import lombok.RequiredArgsConstructor;
 /**
  * The ForgotPasswordController class is responsible for handling the forgot password functionality of the nceph user.
  * It provides endpoints for rendering the forgot password view and sending an OTP to the user's email for password reset.
+ * The OTP emails are enqueued in the {@link EmailOutbox} and sent in the background, so the request never waits on SMTP.
  * 
  * @author Ashwani Singh
- * @version 1.0
+ * @version 1.1
  * @since 2024-Dec-04
  */
 @RequiredArgsConstructor
@@ -57,12 +57,12 @@ public class ForgotPasswordController
 
     private final ForgotPasswordService forgotPasswordService;
 
-    private final EmailSenderService emailSenderService;
-
-    private final SecurityProperties securityProperties;
+    private final EmailOutbox emailOutbox;
 
     private final UrlUtils urlUtils;
 
+    private final UserSessionIndex userSessionIndex;
+
     /**
      * Renders the password reset form view page.
      * This endpoint provides a form for users to initiate the password reset process
@@ -101,13 +101,7 @@ public class ForgotPasswordController
         final String appName = urlUtils.extractAppName(redirectUri);
         final OtpSsoDto otpSsoDto = otpHelper.generateOtpWithSso(appName, email, session, code_challenge);
 
-        final Context context = Context.builder()
-        .emailType(EmailType.PASSWORD_RESET_EMAIL)
-        .emailSender(securityProperties.getSenderEmail())
-        .emailReceiver(email)
-        .additionalParams(OtpParam.builder().otp(otpSsoDto.getOtp()).expiryMinutes(otpHelper.getOtpExpiryTiming(email)).build())
-        .build();
-        emailSenderService.sendEmail(context);
+        emailOutbox.enqueueOtp(EmailType.PASSWORD_RESET_EMAIL, email, otpSsoDto.getOtp(), otpHelper.getOtpExpiryTiming(email), otpHelper.getOtpExpiryTiming(otpSsoDto.getSsoToken()));
         return ResponseEntity.status(HttpStatus.FOUND).location(URI.create(UrlBuilderUtil.buildUrl(PathEnum.OTP_LOGIN_URL.getPath(), otpSsoDto.getSsoToken(), code_challenge, redirect_uri))).build();
     }
 
@@ -133,6 +127,7 @@ public class ForgotPasswordController
      * This function handles the POST request for OTP-based password reset here we validate entered OTP.
      * It validates the entered OTP, and if valid, redirects the user to the password update form view.
      * If the OTP is invalid, it redirects the user to the OTP login form view with an error message.
+     * Once the attempt budget of the OTP is used up, it answers 429 Too Many Requests until a new OTP is requested.
      * 
      * @param combinedOtp The combined OTP entered by the user.
      * @param ssoToken The random ID generated for the user's OTP.
@@ -146,7 +141,13 @@ public class ForgotPasswordController
     @PostMapping(ApiPath.FORGOT_PASSWORD_OTP_VALIDATE)
     public ResponseEntity<String> handleOtpValidationRequest(@RequestParam String combinedOtp, @RequestParam String ssoToken, @RequestParam String code_challenge, @RequestParam String redirect_uri) throws UnsupportedEncodingException, JsonMappingException, JsonProcessingException
     {
-        return otpHelper.validateOtp(ssoToken, combinedOtp)
+        final OtpVerificationResult result = otpHelper.verifyOtp(ssoToken, combinedOtp);
+        if (result == OtpVerificationResult.EXHAUSTED)
+        {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(ErrorDescription.OTP_ATTEMPTS_EXHAUSTED.getMessage());
+        }
+
+        return result == OtpVerificationResult.VALID
         ? ResponseEntity.status(HttpStatus.FOUND)
         .location(
         URI.create(UrlBuilderUtil.buildUrl(PathEnum.OTP_VALIDATE_REDIRECT_URL.getPath(), ssoToken,
@@ -176,6 +177,7 @@ public class ForgotPasswordController
 
     /**
      * Handles the password update for the user who has initiated the forgot password flow.
+     * Once the password is changed the account is signed out of every browser and its refresh tokens are revoked.
      * 
      * @param ssoToken The client identifier associated with the user.
      * @param password The new password to be set for the user.
@@ -193,7 +195,9 @@ public class ForgotPasswordController
     {
         if (otpHelper.isSsoTokenExist(ssoToken))
         {
-            forgotPasswordService.forgotPassword(password, confirmPassword, otpHelper.getEmailBySso(ssoToken));
+            final String email = otpHelper.getEmailBySso(ssoToken);
+            forgotPasswordService.forgotPassword(password, confirmPassword, email);
+            userSessionIndex.revokeAll(email);
             return ResponseEntity.status(HttpStatus.FOUND)
             .location(URI.create(UrlBuilderUtil.buildUrl(PathEnum.LOGIN_FORM_REDIRECT_URL.getPath(), null, 
             URLEncoder.encode(redirect_uri != null ? redirect_uri : "", StandardCharsets.UTF_8.toString()),
@@ -230,13 +234,7 @@ public class ForgotPasswordController
         final OtpSsoDto otpSsoDto = otpHelper.generateOtpWithSso(appName, email, session, code_challenge);
         final long newExpiryTime = otpHelper.getOtpExpiryTiming(otpSsoDto.getSsoToken());
 
-        final Context context = Context.builder()
-        .emailType(EmailType.PASSWORD_RESET_EMAIL)
-        .emailReceiver(email)
-        .additionalParams(OtpParam.builder().otp(otpSsoDto.getOtp()).expiryMinutes(otpHelper.getOtpExpiryTiming(email)).build())
-        .emailSender(securityProperties.getSenderEmail())
-        .build();
-        emailSenderService.sendEmail(context);
+        emailOutbox.enqueueOtp(EmailType.PASSWORD_RESET_EMAIL, email, otpSsoDto.getOtp(), otpHelper.getOtpExpiryTiming(email), newExpiryTime);
 
         final ResendOtpDto response = ResendOtpDto.builder().expiryTime(((newExpiryTime - System.currentTimeMillis()) / 1000)).ssoToken(otpSsoDto.getSsoToken()).build();
         return ResponseEntity.ok(response);
@@ -0,0 +1,44 @@
+package com.zentois.authbeast.controller;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.zentois.authbeast.constants.ApiPath;
+import com.zentois.authbeast.security.ec.EcKeyService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Controller class publishing the public keys that resource servers use to verify signed (ES256) access tokens locally.
+ * 
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(ApiPath.BASE_PATH)
+public class JwksController
+{
+    private final EcKeyService ecKeyService;
+
+    /**
+     * Returns the public JWK set of the access token signing keys.
+     * The response may be cached by resource servers for an hour.
+     * 
+     * @return ResponseEntity<Map<String, Object>> the JSON JWK set
+     */
+    @GetMapping(ApiPath.JWKS)
+    public ResponseEntity<Map<String, Object>> handleJwksRequest()
+    {
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic())
+            .body(ecKeyService.getPublicJwkSet());
+    }
+}
\ No newline at end of file
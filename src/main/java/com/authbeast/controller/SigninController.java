@@ -33,8 +33,10 @@ import com.zentois.authbeast.dto.response.ApiResponse;
 import com.zentois.authbeast.dto.session_data.SessionUserData;
 import com.zentois.authbeast.enums.ErrorDescription;
 import com.zentois.authbeast.enums.PathEnum;
+import com.zentois.authbeast.enums.otp.OtpVerificationResult;
 import com.zentois.authbeast.service.AccountService;
 import com.zentois.authbeast.service.SigninService;
+import com.zentois.authbeast.utils.cache.UserSessionIndex;
 import com.zentois.authbeast.utils.mfa.email.otp.OtpHelper;
 import com.zentois.authbeast.utils.model_view.ModelViewBuilderUtil;
 import com.zentois.authbeast.utils.session.SessionDataUtil;
@@ -81,6 +83,8 @@ public class SigninController
 
     private final UrlUtils urlUtils;
 
+    private final UserSessionIndex userSessionIndex;
+
     /**
      * This function handles the email OTP login for multi-factor authentication.
      * It displays a form to the user to enter the OTP received via email.
@@ -110,6 +114,8 @@ public class SigninController
      * multi-factor authentication.
      * It validates the entered OTP, creates a session, and redirects the user to
      * the appropriate destination.
+     * Once the attempt budget of the OTP is used up, it answers 429 Too Many
+     * Requests until a new OTP is requested.
      *
      * @param combinedOtp    The combined OTP entered by the user.
      * @param ssoToken            The email address of the user attempting to login.
@@ -128,7 +134,12 @@ public class SigninController
     @PostMapping(ApiPath.MFA_OTP_VALIDATE)
     public ResponseEntity<String> handleMfaOtpRequest(@RequestParam String combinedOtp, @RequestParam String email, @RequestParam String ssoToken, @RequestParam(name = "code_challenge") String codeChallenge, @RequestParam(name = "redirect_uri") String redirectUri, HttpSession session) throws JsonMappingException, JsonProcessingException, MalformedURLException, URISyntaxException
     {
-        if (!otpHelper.validateOtp(ssoToken, combinedOtp))
+        final OtpVerificationResult result = otpHelper.verifyOtp(ssoToken, combinedOtp);
+        if (result == OtpVerificationResult.EXHAUSTED)
+        {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(ErrorDescription.OTP_ATTEMPTS_EXHAUSTED.getMessage());
+        }
+        if (result != OtpVerificationResult.VALID)
         {
             return signinService.handleWrongOtpLogin(ssoToken, redirectUri, codeChallenge);
         }
@@ -159,6 +170,7 @@ public class SigninController
         final SessionUserData sessionUserData = sessionDataUtil.getOrCreateNewSessionUserData(session);
         final String sessionId = signinService.handleSessionCreation(email, session, sessionUserData);
         sessionUserData.getUsers().get(sessionId).setExpiryStatus(false);
+        userSessionIndex.register(email, session.getId(), sessionId);
 
         if (ssoToken == null)
         {
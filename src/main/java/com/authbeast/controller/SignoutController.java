@@ -3,6 +3,8 @@ package com.zentois.authbeast.controller;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,7 +16,12 @@ import org.springframework.web.bind.annotation.RestController;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.zentois.authbeast.constants.ApiPath;
+import com.zentois.authbeast.dto.session_data.SessionUserData;
+import com.zentois.authbeast.dto.session_data.UserAccount;
 import com.zentois.authbeast.service.SignoutService;
+import com.zentois.authbeast.utils.cache.TokenClaimsCache;
+import com.zentois.authbeast.utils.cache.UserSessionIndex;
+import com.zentois.authbeast.utils.session.SessionDataUtil;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpSession;
@@ -24,7 +31,7 @@ import lombok.RequiredArgsConstructor;
  * This Controller class responsible for handling sign-out functionality for the SSO session management system.
  * 
  * @author Ashwani Singh
- * @version  1.0
+ * @version  1.3
  * @since 2024-Oct-25
  */
 @RestController
@@ -34,6 +41,12 @@ public class SignoutController
 {
     private final SignoutService signoutService;
 
+    private final TokenClaimsCache tokenClaimsCache;
+
+    private final SessionDataUtil sessionDataUtil;
+
+    private final UserSessionIndex userSessionIndex;
+
     private static final String DEFAULT_REDIRECT = "/";
 
     /**
@@ -55,7 +68,14 @@ public class SignoutController
         
         if (session != null)
         {
+            final UserAccount userAccount = sessionId != null ? getUsers(session).get(sessionId) : null;
             signoutService.partialLogoutFromRedis(session, sessionId, redirect_uri);
+            // only a session of an account signed in within the caller's browser session is revoked
+            if (userAccount != null)
+            {
+                userSessionIndex.unregister(userAccount.getEmail(), session.getId(), sessionId);
+                tokenClaimsCache.revokeSession(sessionId);
+            }
         }
 
         return ResponseEntity
@@ -83,7 +103,14 @@ public class SignoutController
         
         if (session != null)
         {
+            final String browserSessionId = session.getId();
+            final Map<String, UserAccount> users = getUsers(session);
             signoutService.handleSessionLogout(session, sessionId);
+            if (!users.isEmpty())
+            {
+                tokenClaimsCache.revokeBrowserSession(browserSessionId);
+            }
+            users.forEach((accountSessionId, userAccount) -> userSessionIndex.unregister(userAccount.getEmail(), browserSessionId, accountSessionId));
         }
 
         return ResponseEntity
@@ -91,4 +118,17 @@ public class SignoutController
             .location(URI.create(redirect_uri != null ? redirect_uri : DEFAULT_REDIRECT))
             .build();
     }
+
+    /**
+     * Returns a copy of the accounts signed in within the browser session, read before the sign-out removes them.
+     *
+     * @param session the browser session
+     * @return the accounts by their session ID
+     * @throws JsonProcessingException
+     */
+    private Map<String, UserAccount> getUsers(HttpSession session) throws JsonProcessingException
+    {
+        final SessionUserData sessionUserData = sessionDataUtil.getOrCreateNewSessionUserData(session);
+        return sessionUserData.getUsers() != null ? new LinkedHashMap<>(sessionUserData.getUsers()) : Map.of();
+    }
 }
\ No newline at end of file
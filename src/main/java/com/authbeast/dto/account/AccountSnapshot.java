@@ -0,0 +1,33 @@
+package com.zentois.authbeast.dto.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The rarely changing part of an {@code Account} row, as kept by the account lookup cache.
+ * It carries no credentials, and instances are immutable so they can be shared safely between requests.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AccountSnapshot
+{
+    private final String id;
+
+    private final String email;
+
+    private final String entityId;
+
+    private final String entityRoleId;
+
+    private final String username;
+
+    private final boolean enabled;
+
+    private final boolean archived;
+}
\ No newline at end of file
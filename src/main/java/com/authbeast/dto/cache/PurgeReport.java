@@ -0,0 +1,28 @@
+package com.zentois.authbeast.dto.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The outcome of a purge of a Redis key namespace.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PurgeReport
+{
+    private final String pattern;
+
+    private final long scanned;
+
+    private final long unlinked;
+
+    private final long durationMillis;
+
+    private final boolean completed;
+}
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.zentois.authbeast.dto.claim;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The part of an {@code Account} row that is needed to build the claims of an access token.
+ * Instances are immutable so they can be shared safely between requests from the claim cache.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AccountClaimData
+{
+    private final String userId;
+
+    private final String entityId;
+
+    private final String entityRoleId;
+
+    private final String username;
+}
\ No newline at end of file
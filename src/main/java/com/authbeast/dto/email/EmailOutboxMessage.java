@@ -0,0 +1,66 @@
+package com.zentois.authbeast.dto.email;
+
+import com.zentois.framework.email.enums.EmailType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO representing an email waiting in the outbox.
+ * It holds everything needed to build the email context when the email is sent, so the email can be sent by any node.
+ * An OTP email expires with its OTP, and its OTP is removed before it is kept as dead letter.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmailOutboxMessage
+{
+    /**
+     * Unique ID of the email, so two equal emails are two members of the outbox.
+     */
+    private String id;
+
+    private EmailType emailType;
+
+    private String sender;
+
+    private String receiver;
+
+    /**
+     * The OTP of an OTP email, null for other emails.
+     */
+    private String otp;
+
+    /**
+     * Minutes the OTP of an OTP email is valid, null for other emails.
+     */
+    private Long expiryMinutes;
+
+    /**
+     * Time the OTP of an OTP email expires in milliseconds since epoch, null for other emails. The email is dropped
+     * instead of sent or retried once it is reached.
+     */
+    private Long expiresAt;
+
+    /**
+     * Time the email was enqueued in milliseconds since epoch.
+     */
+    private long enqueuedAt;
+
+    /**
+     * Number of failed attempts to send the email.
+     */
+    private int attempts;
+
+    /**
+     * Reason the last attempt failed.
+     */
+    private String lastError;
+}
\ No newline at end of file
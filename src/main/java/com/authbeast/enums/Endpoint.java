@@ -25,6 +25,9 @@ public enum Endpoint
     SIGN_OUT("/auth/v1"+ApiPath.SPECIFIC_APPLICATION_SIGNOUT, false, "Sign out endpoint", ControllerRegistry.SIGNOUT_CONTROLLER.getControllerName()), 
     ALL_ACCOUNT_SIGN_OUT("/auth/v1"+ApiPath.SINGLE_SIGNOUT, false, "Sign out endpoint for all account", ControllerRegistry.SIGNOUT_CONTROLLER.getControllerName()), 
 
+    // Public keys for local verification of signed access tokens
+    JWKS("/auth/v1"+ApiPath.JWKS, false, "Public JWK set endpoint", ControllerRegistry.JWKS_CONTROLLER.getControllerName()),
+
    
     // Sign in endpoints
     // Organization specific login endpoint
@@ -19,5 +19,27 @@ public enum ErrorDescription
 
     INVALID_OTP_ENTERED("Invalid OTP entered. Please try again."),
 
+    RSA_FILE_FAILED_TO_STORE("Failed to store RSA key pair"),
+
+    UNKNOWN_TOKEN_KEY("Token is encrypted with an unknown key"),
+
+    TOKEN_EXPIRED("Token has expired"),
+
+    TOKEN_REVOKED("Token has been revoked"),
+
+    DIRECT_ENCRYPTION_SECRET_MISSING("Direct token encryption requires a master secret of at least 32 bytes"),
+
+    EC_FILE_FAILED_TO_LOAD("Failed to load EC signing key pair"),
+
+    INVALID_TOKEN_SIGNATURE("Token signature is invalid"),
+
+    SESSION_UPDATE_CONFLICT("Session data was changed concurrently, please try again"),
+
+    OTP_ATTEMPTS_EXHAUSTED("Too many wrong OTP attempts. Please request a new OTP."),
+
+    UNSUPPORTED_VALUE_FORMAT("Redis value has an unsupported format or is corrupt"),
+
+    PASSWORD_HASHING_OVERLOADED("The server is busy verifying passwords, please try again shortly"),
+
     private String message;
 }
\ No newline at end of file
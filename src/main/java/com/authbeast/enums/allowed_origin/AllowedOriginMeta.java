@@ -1,6 +1,12 @@
 package com.zentois.authbeast.enums.allowed_origin;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import com.zentois.authbeast.enums.cors.AllowedApplicationUrl;
+import com.zentois.authbeast.enums.token.TokenProfile;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -9,22 +15,37 @@ import lombok.Getter;
  * Enum representing the allowed origin metadata for the SSO server.
  * Each enum constant represents a specific application that is allowed to
  * authenticate with the SSO server, along with its associated URL, callback
- * path, application name, whether the origin is allowed, and a token issuer
- * signing key.
+ * path, application name, whether the origin is allowed, a token issuer
+ * signing key and the profile used to protect its tokens.
  * 
  * @author Ashwani Singh
- * @version 1.0
+ * @version 1.1
  * @since 2024-Nov-18
  */
 @AllArgsConstructor
 @Getter
 public enum AllowedOriginMeta
 {
-        CARTXFLIP(AllowedApplicationUrl.CARTXFLIP.getUrl(), "/auth/cartexflip", "Cartxflip", true, "l1Q7zkOL59cRqWBkQ12ZiGVW2DBL"),
+        CARTXFLIP(AllowedApplicationUrl.CARTXFLIP.getUrl(), "/auth/cartexflip", "Cartxflip", true, "l1Q7zkOL59cRqWBkQ12ZiGVW2DBL", TokenProfile.RSA_OAEP),
 
         private final String url;
         private final String callback;
         private final String appName;
         private final boolean originAllowed;
         private final String tokenIssuerSign;
+        private final TokenProfile tokenProfile;
+
+        private static final Map<String, AllowedOriginMeta> BY_APP_NAME = Arrays.stream(values())
+                .collect(Collectors.toMap(AllowedOriginMeta::getAppName, Function.identity()));
+
+        /**
+         * Finds the allowed origin registered with the given application name.
+         *
+         * @param appName the application name, as used for the product
+         * @return the allowed origin metadata, or null if no application is registered with this name
+         */
+        public static AllowedOriginMeta fromAppName(String appName)
+        {
+                return appName == null ? null : BY_APP_NAME.get(appName);
+        }
 }
\ No newline at end of file
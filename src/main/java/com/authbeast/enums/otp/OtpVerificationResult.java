@@ -0,0 +1,36 @@
+package com.zentois.authbeast.enums.otp;
+
+/**
+ * Enum representing the outcome of verifying an entered one-time password (OTP).
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+public enum OtpVerificationResult
+{
+    /**
+     * The OTP matched and has been consumed, it can not be used again.
+     */
+    VALID,
+
+    /**
+     * The OTP did not match and one attempt of the budget has been spent.
+     */
+    INVALID,
+
+    /**
+     * The OTP has expired and has been removed.
+     */
+    EXPIRED,
+
+    /**
+     * The attempt budget of the OTP is used up, further attempts are rejected without comparing.
+     */
+    EXHAUSTED,
+
+    /**
+     * No OTP is pending for the SSO token, it was never generated, already consumed or has expired.
+     */
+    MISSING
+}
\ No newline at end of file
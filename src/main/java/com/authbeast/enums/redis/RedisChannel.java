@@ -0,0 +1,36 @@
+package com.zentois.authbeast.enums.redis;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Enum containing the Redis pub/sub channels the SSO server publishes to or listens on.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Getter
+@AllArgsConstructor
+public enum RedisChannel
+{
+    /**
+     * Published by the user management side whenever a product or entity role privilege mapping changes.
+     * The message body is {@code product:<appName>}, {@code entity-role:<entityRoleId>}, {@code account:<email>} or {@code *}.
+     */
+    PRIVILEGE_MAPPING_CHANGED("authbeast:privilege-mapping-changed"),
+
+    /**
+     * Published on signout so every instance drops the decrypted tokens of the signed out session.
+     * The message body is {@code session:<sessionId>} or {@code browser-session:<bSID>}.
+     */
+    TOKEN_REVOKED("authbeast:token-revoked"),
+
+    /**
+     * Published whenever a Redis key held in the near cache is written or deleted, so every instance drops its copy.
+     * The message body is the Redis key or {@code *}.
+     */
+    NEAR_CACHE_INVALIDATED("authbeast:near-cache-invalidated");
+
+    private final String channel;
+}
\ No newline at end of file
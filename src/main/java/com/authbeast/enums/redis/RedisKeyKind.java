@@ -0,0 +1,60 @@
+package com.zentois.authbeast.enums.redis;
+
+/**
+ * Enum representing the kinds of keys the SSO server writes to Redis outside of Spring Session.
+ * Every kind has its own TTL in {@link com.zentois.authbeast.config.RedisKeyProperties}, so no key is ever
+ * written without an expiry.
+ *
+ * @author Ashwani Singh
+ * @version 1.3
+ * @since 2026-Oct-17
+ */
+public enum RedisKeyKind
+{
+    /**
+     * The intermediate SSO token of the code exchange, holding the {@code SsoTokenData}.
+     */
+    SSO_TOKEN,
+
+    /**
+     * The intermediate SSO token of an OTP flow (MFA sign-in or password reset), holding the {@code SsoTokenData} while
+     * the user enters the OTP.
+     */
+    OTP_SSO_TOKEN,
+
+    /**
+     * The list of applications an account is signed in to within a browser session.
+     */
+    USER_APP_INFO,
+
+    /**
+     * The pending OTP of an intermediate SSO token: its SHA-256, expiry and remaining verification attempts.
+     */
+    OTP,
+
+    /**
+     * The index of the sessions an account is signed in to across every browser, and of the accounts signed in within a
+     * browser session.
+     */
+    USER_SESSIONS,
+
+    /**
+     * The counter of failed logins of an account, its TTL is the window the failures are counted in.
+     */
+    FAILED_LOGINS,
+
+    /**
+     * The marker of a revoked refresh token family, its TTL outlives every refresh token of the family.
+     */
+    REVOKED_TOKEN_FAMILY,
+
+    /**
+     * The outbox of emails waiting to be sent, its TTL is extended on every write.
+     */
+    EMAIL_OUTBOX,
+
+    /**
+     * The emails that could not be sent within the allowed attempts, kept for inspection.
+     */
+    EMAIL_DEAD_LETTERS
+}
\ No newline at end of file
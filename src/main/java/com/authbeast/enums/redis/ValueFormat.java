@@ -0,0 +1,22 @@
+package com.zentois.authbeast.enums.redis;
+
+/**
+ * Enum representing the formats values are written to Redis in.
+ * Values of both formats are always readable, the format only decides how new values are written.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+public enum ValueFormat
+{
+    /**
+     * Plain JSON, as written by every release before the compact format.
+     */
+    JSON,
+
+    /**
+     * Jackson Smile behind a versioned header, compressed with LZ4 above the compression threshold.
+     */
+    COMPACT
+}
\ No newline at end of file
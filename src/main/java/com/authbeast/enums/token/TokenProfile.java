@@ -0,0 +1,29 @@
+package com.zentois.authbeast.enums.token;
+
+/**
+ * Enum representing how the tokens of a registered application are protected.
+ * The profile is configured per application in {@link com.zentois.authbeast.enums.allowed_origin.AllowedOriginMeta}.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+public enum TokenProfile
+{
+    /**
+     * Tokens are encrypted with RSA-OAEP-256 and A256GCM using the active key of the RSA key ring.
+     */
+    RSA_OAEP,
+
+    /**
+     * Tokens are encrypted directly ({@code dir}) with A256GCM using a symmetric key derived for the application.
+     * Decryption needs no RSA private key operation.
+     */
+    DIRECT,
+
+    /**
+     * Access tokens are signed (JWS) with ES256 and can be verified by resource servers with the published public key.
+     * Refresh tokens stay encrypted with the RSA key ring.
+     */
+    SIGNED_ES256
+}
\ No newline at end of file
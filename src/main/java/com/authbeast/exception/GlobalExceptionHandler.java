@@ -1,5 +1,6 @@
 package com.zentois.authbeast.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -17,7 +18,7 @@ import com.nimbusds.jose.JOSEException;
  * during the execution of the application.
  * 
  * @author Ashwani Singh
- * @version 1.0
+ * @version 1.1
  * @since 2024-Nov-15
  */
 @ControllerAdvice
@@ -37,4 +38,20 @@ public class GlobalExceptionHandler
             .status(HttpStatus.FORBIDDEN)
             .body(new ApiResponse(false, ex.getMessage()));
     }
+
+    /**
+     * Handles a PasswordHashingOverloadedException by returning a 503 Service Unavailable
+     * status response with a Retry-After header and the exception message.
+     * 
+     * @param ex the exception that was thrown
+     * @return a ResponseEntity containing the error response
+     */
+    @ExceptionHandler(PasswordHashingOverloadedException.class)
+    public ResponseEntity<ApiResponse> handlePasswordHashingOverloadedException(PasswordHashingOverloadedException ex)
+    {
+        return ResponseEntity
+            .status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+            .body(new ApiResponse(false, ex.getMessage()));
+    }
 }
\ No newline at end of file
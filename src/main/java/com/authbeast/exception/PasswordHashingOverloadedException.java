@@ -0,0 +1,29 @@
+package com.zentois.authbeast.exception;
+
+import lombok.Getter;
+
+/**
+ * Represents an exception that is thrown when a password can not be hashed because the password hashing executor
+ * is saturated. It is answered with a 503 and a {@code Retry-After} header.
+ * 
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Getter
+public class PasswordHashingOverloadedException extends RuntimeException
+{
+    private final int retryAfterSeconds;
+
+    /**
+     * Constructs a new {@link PasswordHashingOverloadedException} with the specified error message.
+     *
+     * @param message the detail message (which is saved for later retrieval by the {@link #getMessage()} method).
+     * @param retryAfterSeconds the seconds the client should wait before retrying.
+     */
+    public PasswordHashingOverloadedException(String message, int retryAfterSeconds)
+    {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
\ No newline at end of file
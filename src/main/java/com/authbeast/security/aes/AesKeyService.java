@@ -0,0 +1,142 @@
+package com.zentois.authbeast.security.aes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.stereotype.Component;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.crypto.DirectDecrypter;
+import com.nimbusds.jose.crypto.DirectEncrypter;
+import com.zentois.authbeast.config.SecurityProperties;
+import com.zentois.authbeast.enums.ErrorDescription;
+import com.zentois.authbeast.enums.allowed_origin.AllowedOriginMeta;
+import com.zentois.authbeast.enums.token.TokenProfile;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Derives and holds the symmetric AES-256 keys used for direct ({@code dir} + A256GCM) token encryption.
+ *
+ * Each registered application gets its own key, derived with HKDF-SHA256 from the configured master secret,
+ * salted with the application's token issuer signing key. Keys are derived once and the thread safe
+ * encrypter and decrypter are shared afterwards.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Component
+@RequiredArgsConstructor
+public class AesKeyService
+{
+    private static final String HMAC_ALGO = "HmacSHA256";
+
+    private static final String AES_ALGO = "AES";
+
+    private static final String INFO_PREFIX = "authbeast/dir/A256GCM/";
+
+    private static final int KEY_LENGTH = 32;
+
+    private final SecurityProperties securityProperties;
+
+    private final Map<AllowedOriginMeta, DirectKey> keys = new ConcurrentHashMap<>();
+
+    /**
+     * Fails the startup if an application uses the DIRECT token profile but no usable master secret is configured,
+     * and derives the keys of those applications up front.
+     */
+    @PostConstruct
+    public void init()
+    {
+        for (AllowedOriginMeta app : AllowedOriginMeta.values())
+        {
+            if (app.getTokenProfile() == TokenProfile.DIRECT)
+            {
+                getKey(app);
+            }
+        }
+    }
+
+    /**
+     * Returns the encrypter for tokens of the given application.
+     *
+     * @param app The registered application.
+     * @return The shared direct encrypter.
+     */
+    public DirectEncrypter getEncrypter(AllowedOriginMeta app)
+    {
+        return getKey(app).encrypter();
+    }
+
+    /**
+     * Returns the decrypter for tokens of the given application.
+     *
+     * @param app The registered application.
+     * @return The shared direct decrypter.
+     */
+    public DirectDecrypter getDecrypter(AllowedOriginMeta app)
+    {
+        return getKey(app).decrypter();
+    }
+
+    private DirectKey getKey(AllowedOriginMeta app)
+    {
+        return keys.computeIfAbsent(app, this::deriveKey);
+    }
+
+    private DirectKey deriveKey(AllowedOriginMeta app)
+    {
+        final String masterSecret = securityProperties.getDirectEncryption().getMasterSecret();
+        final byte[] secret = masterSecret == null || masterSecret.isBlank() ? new byte[0] : Base64.getDecoder().decode(masterSecret);
+        if (secret.length < KEY_LENGTH)
+        {
+            throw new IllegalStateException(ErrorDescription.DIRECT_ENCRYPTION_SECRET_MISSING.getMessage());
+        }
+
+        try
+        {
+            final byte[] keyBytes = hkdf(secret, app.getTokenIssuerSign().getBytes(StandardCharsets.UTF_8), (INFO_PREFIX + app.name()).getBytes(StandardCharsets.UTF_8));
+            final SecretKey key = new SecretKeySpec(keyBytes, AES_ALGO);
+            return new DirectKey(new DirectEncrypter(key), new DirectDecrypter(key));
+        }
+        catch (GeneralSecurityException | JOSEException e)
+        {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * HKDF-SHA256 (RFC 5869) producing a single 32 byte block.
+     *
+     * @param secret The input keying material.
+     * @param salt The salt.
+     * @param info The context information.
+     * @return The derived 32 byte key.
+     * @throws GeneralSecurityException If HmacSHA256 is not available.
+     */
+    private static byte[] hkdf(byte[] secret, byte[] salt, byte[] info) throws GeneralSecurityException
+    {
+        final Mac mac = Mac.getInstance(HMAC_ALGO);
+        mac.init(new SecretKeySpec(salt, HMAC_ALGO));
+        final byte[] pseudoRandomKey = mac.doFinal(secret);
+
+        mac.init(new SecretKeySpec(pseudoRandomKey, HMAC_ALGO));
+        mac.update(info);
+        mac.update((byte) 1);
+        return Arrays.copyOf(mac.doFinal(), KEY_LENGTH);
+    }
+
+    private record DirectKey(DirectEncrypter encrypter, DirectDecrypter decrypter)
+    {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.zentois.authbeast.security.ec;
+
+import java.io.File;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.zentois.authbeast.enums.ErrorDescription;
+import com.zentois.authbeast.enums.PathEnum;
+import com.zentois.authbeast.utils.pem.PemUtil;
+
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Loads, or generates on first start, the P-256 key pair used to sign ES256 access tokens.
+ *
+ * The public key is published as a JWK set, so resource servers can verify access tokens locally without
+ * calling back to the SSO server. The key id ({@code kid}) is the RFC 7638 thumbprint of the public key.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@Component
+@RequiredArgsConstructor
+public class EcKeyService
+{
+    private static final String STORE_FOLDER = PathEnum.LOCAL_FOLDER_PATH.getPath();
+
+    private static final String PRIVATE_KEY_FILE = STORE_FOLDER + "/ec_private_key.pem";
+
+    private static final String PUBLIC_KEY_FILE = STORE_FOLDER + "/ec_public_key.pem";
+
+    private static final String EC_ALGO = "EC";
+
+    private static final String EC_CURVE = "secp256r1";
+
+    @Getter
+    private String kid;
+
+    @Getter
+    private ECDSASigner signer;
+
+    @Getter
+    private ECDSAVerifier verifier;
+
+    private Map<String, Object> publicJwkSet;
+
+    /**
+     * Loads the signing key pair from the key store, generating and storing a new one if it does not exist.
+     *
+     * @throws JOSEException If the signer, verifier or key id can not be created.
+     * @throws RuntimeException If an error occurs while loading or generating the key pair.
+     */
+    @PostConstruct
+    public void init() throws JOSEException
+    {
+        final KeyPair keyPair = loadOrGenerateKeyPair();
+        final ECPublicKey publicKey = (ECPublicKey) keyPair.getPublic();
+
+        final ECKey jwk = new ECKey.Builder(Curve.P_256, publicKey)
+            .keyUse(KeyUse.SIGNATURE)
+            .algorithm(JWSAlgorithm.ES256)
+            .keyIDFromThumbprint()
+            .build();
+
+        this.kid = jwk.getKeyID();
+        this.signer = new ECDSASigner((ECPrivateKey) keyPair.getPrivate());
+        this.verifier = new ECDSAVerifier(publicKey);
+        this.publicJwkSet = new JWKSet(jwk).toJSONObject(true);
+    }
+
+    /**
+     * Returns the public signing keys as a JWK set, ready to be served to resource servers.
+     *
+     * @return The JSON object of the public JWK set.
+     */
+    public Map<String, Object> getPublicJwkSet()
+    {
+        return publicJwkSet;
+    }
+
+    /**
+     * Returns the signing key pair, loaded from the key store or generated and stored there on first start.
+     *
+     * @return The P-256 key pair.
+     * @throws RuntimeException If an error occurs while loading or generating the key pair.
+     */
+    protected KeyPair loadOrGenerateKeyPair()
+    {
+        try
+        {
+            final File privateKeyFile = new File(PRIVATE_KEY_FILE);
+            final File publicKeyFile = new File(PUBLIC_KEY_FILE);
+
+            if (privateKeyFile.exists() && publicKeyFile.exists())
+            {
+                return PemUtil.readKeyPair(privateKeyFile, publicKeyFile, EC_ALGO);
+            }
+
+            final KeyPairGenerator generator = KeyPairGenerator.getInstance(EC_ALGO);
+            generator.initialize(new ECGenParameterSpec(EC_CURVE));
+            final KeyPair keyPair = generator.generateKeyPair();
+
+            new File(STORE_FOLDER).mkdirs();
+            PemUtil.writeKeyPair(privateKeyFile, publicKeyFile, keyPair);
+            return keyPair;
+        }
+        catch (IOException | GeneralSecurityException e)
+        {
+            throw new RuntimeException(ErrorDescription.EC_FILE_FAILED_TO_LOAD.getMessage(), e);
+        }
+    }
+}
\ No newline at end of file
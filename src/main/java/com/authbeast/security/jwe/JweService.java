@@ -1,9 +1,5 @@
 package com.zentois.authbeast.security.jwe;
 
-import java.security.NoSuchAlgorithmException;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
-import java.security.spec.InvalidKeySpecException;
 import java.text.ParseException;
 import java.util.HashMap;
 import java.util.List;
@@ -12,76 +8,46 @@ import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 
-import com.zentois.framework.security.jwe.JweUtil;
 import com.zentois.authbeast.config.SecurityProperties;
 import com.zentois.authbeast.dto.StandardJwtClaims;
+import com.zentois.authbeast.dto.claim.AccountClaimData;
+import com.zentois.authbeast.enums.allowed_origin.AllowedOriginMeta;
+import com.zentois.authbeast.enums.token.TokenProfile;
 import com.zentois.authbeast.enums.token.TokenType;
 import com.zentois.authbeast.model.JwtPayloadData;
-import com.zentois.authbeast.model.nceph_entity.Account;
-import com.zentois.authbeast.repository.AccountRepository;
-import com.zentois.authbeast.repository.EntityRolePrivilegeMapRepository;
-import com.zentois.authbeast.repository.ProductPrivilegeMapRepository;
-import com.zentois.authbeast.repository.ProductRepository;
-import com.zentois.authbeast.security.rsa.RsaService;
+import com.zentois.authbeast.utils.cache.PrivilegeClaimCache;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jwt.JWTClaimsSet;
 
-import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 /**
  * The JweManager class is responsible for managing the encryption and decryption of JSON Web Encryption (JWE) tokens.
- * It handles the loading and usage of RSA public and private keys for the encryption and decryption operations.
+ * The RSA keys used for the encryption and decryption operations come from the rotating {@link com.zentois.authbeast.security.rsa.RsaKeyRing}.
  * 
  * Token generation process : 
- * generateToken -> doGenerateToken -> encryptToken
+ * generateToken -> buildAccessTokenClaims -> JweTokenCodec.encrypt
 
  * @author Ashwani Singh
- * @version 1.0
+ * @version 1.2
  * @since 2024-Dec-09
  */
 @Component
 @RequiredArgsConstructor
 public class JweService
 {
-    private final AccountRepository accountRepository;
-
-    private final ProductRepository productRepository;
+    private final PrivilegeClaimCache privilegeClaimCache;
 
     private final SecurityProperties securityProperties;
 
-    private final EntityRolePrivilegeMapRepository entityRolePrivilegeMapRepository;
-
-    private final ProductPrivilegeMapRepository productPrivilegeMapRepository;
-
-    private final JweUtil jweUtil;
-
-    private final RsaService rsaUtil;
-    
-    private RSAPublicKey publicKey;
+    private final JweTokenCodec jweTokenCodec;
 
-    private RSAPrivateKey privateKey;
-
-    /**
-     * Initializes the JWEManager by loading the RSA key pair from the file specified
-     * by the "jwt.keypair.file" property.
-     * 
-     * This method is annotated with Spring's @PostConstruct annotation, which means
-     * it will be called after the bean has been constructed.
-     * @throws InvalidKeySpecException 
-     * @throws NoSuchAlgorithmException 
-     */
-    @PostConstruct
-    public void init() throws NoSuchAlgorithmException, InvalidKeySpecException
-    {
-        this.publicKey = (RSAPublicKey) rsaUtil.loadKeyPairFromFile().getPublic();
-        this.privateKey = (RSAPrivateKey) rsaUtil.loadKeyPairFromFile().getPrivate();
-    }
+    private final TokenViewResolver tokenViewResolver;
 
     /**
      * Retrieves the claims from a JWE token by validating and decrypting it.
      *
-     * <p>This method uses the private key to decrypt the provided token and
+     * <p>This method picks the private key of the key ring by the {@code kid} of the token to decrypt it and
      * returns the claims contained within the token as a {@link JWTClaimsSet} object.
      * 
      * @param token The JWE token to be validated and decrypted.
@@ -91,13 +57,13 @@ public class JweService
      */
     public JWTClaimsSet getClaimsFromToken(String token) throws JOSEException, ParseException
     {
-        return jweUtil.validateAndDecryptToken(token, privateKey);
+        return tokenViewResolver.resolve(token).getValidClaims();
     }
 
     /**
      * Retrieves the session ID from a JWE token by validating and decrypting it.
      * 
-     * <p>This method uses the private key to decrypt the provided token and
+     * <p>This method picks the private key of the key ring by the {@code kid} of the token to decrypt it and
      * returns the session ID contained within the token as a string.
      * 
      * @param token The JWE token to be validated and decrypted.
@@ -107,30 +73,31 @@ public class JweService
      */
     public String getSessionId(String token) throws JOSEException, ParseException
     {
-        return jweUtil.extractClaimsIfExpired(token, privateKey).getClaim("sessionID").toString();
+        return tokenViewResolver.resolve(token).getSessionId();
     }
 
     /**
      * Builds the claims for an access token, including the user's entity ID, username, email, user ID and session ID.
      * Additionally, adds the list of privileges associated with the given appName, if the user has the privilege.
      * 
-     * @param account The account for which to build the claims.
+     * <p>The account and privilege reference data is resolved through the {@link PrivilegeClaimCache}, so a token
+     * for a warm user/app pair is built without any database round trip.
+     * 
+     * @param account The claim data of the account for which to build the claims.
      * @param payloadData The payload data containing the user's email and session ID.
      * @param appName The name of the app to retrieve the privileges for.
      * @return A map of claims for the access token.
      */
-    private StandardJwtClaims buildAccessTokenClaims(Account account, JwtPayloadData payloadData, String appName)
+    private StandardJwtClaims buildAccessTokenClaims(AccountClaimData account, JwtPayloadData payloadData, String appName)
     {
-        final List<String> privileges = productPrivilegeMapRepository.getPrivilegeBasedOnProduct(appName);
-    
-        final List<String> privilege = privileges.contains(productRepository.findByName(appName).getPrivilege().getName()) ? privileges : List.of();
-        final List<String> accountPrivilegeList = entityRolePrivilegeMapRepository.getPrivilegeNamesByEntityRoleMapId(account.getEntityRoleId(), false);
+        final List<String> privilege = privilegeClaimCache.getProductPrivileges(appName);
+        final List<String> accountPrivilegeList = privilegeClaimCache.getEntityRolePrivileges(account.getEntityRoleId());
         
         return StandardJwtClaims.builder()
-            .entityId(account.getEntity().getId())
+            .entityId(account.getEntityId())
             .username(account.getUsername())
             .email(payloadData.getEmail())
-            .userId(account.getId())
+            .userId(account.getUserId())
             .sessionId(payloadData.getSessionID())
             .tokenType(TokenType.ACCESS)
             .privileges(privilege.stream().filter(accountPrivilegeList::contains).collect(Collectors.toList()))
@@ -139,6 +106,8 @@ public class JweService
 
     /**
      * Generates an access token with the provided claims and expiration time.
+     * Apps using the {@link TokenProfile#SIGNED_ES256} profile get a signed token they can verify locally,
+     * all other apps get an encrypted token.
      * 
      * @param payloadData The payload data containing the user's email and session ID.
      * @param issuer The issuer of the token.
@@ -148,12 +117,20 @@ public class JweService
      */
     public String generateToken(JwtPayloadData payloadData, String issuer, String appName) throws JOSEException
     {
-        final StandardJwtClaims claims = buildAccessTokenClaims(accountRepository.findByEmail(payloadData.getEmail()).get(), payloadData, appName);
-        return jweUtil.doGenerate(claims.toMap(), issuer, publicKey, securityProperties.getAccessTokenExpiration());
+        final StandardJwtClaims claims = buildAccessTokenClaims(privilegeClaimCache.getAccountClaims(payloadData.getEmail()), payloadData, appName);
+        final AllowedOriginMeta app = AllowedOriginMeta.fromAppName(appName);
+        if (app != null && app.getTokenProfile() == TokenProfile.SIGNED_ES256)
+        {
+            return jweTokenCodec.sign(claims.toMap(), issuer, securityProperties.getAccessTokenExpiration());
+        }
+        return jweTokenCodec.encrypt(claims.toMap(), issuer, securityProperties.getAccessTokenExpiration(), app);
     }
 
     /**
      * Generates a refresh token with the provided claims and expiration time.
+     * The token is always encrypted with the RSA key ring, since no app is known here. Callers that know the app
+     * the token is issued for use {@link #generateRefreshToken(JwtPayloadData, String, String)}, so apps using the
+     * {@link TokenProfile#DIRECT} profile get a direct encrypted refresh token.
      * 
      * @param payloadData
      * @param issuer
@@ -161,6 +138,21 @@ public class JweService
      * @throws JOSEException If there is an error encrypting the token.
      */
     public String generateRefreshToken(JwtPayloadData payloadData, String issuer) throws JOSEException
+    {
+        return generateRefreshToken(payloadData, issuer, null);
+    }
+
+    /**
+     * Generates a refresh token with the provided claims and expiration time, protected according to the
+     * token profile of the given app.
+     * 
+     * @param payloadData The payload data containing the user's email, user ID, session ID and browser session ID.
+     * @param issuer The issuer of the token.
+     * @param appName The name of the app the token is issued for, or null to use the RSA key ring.
+     * @return The generated refresh token.
+     * @throws JOSEException If there is an error encrypting the token.
+     */
+    public String generateRefreshToken(JwtPayloadData payloadData, String issuer, String appName) throws JOSEException
     {
         final Map<String, Object> claims = new HashMap<>();
         claims.put("email", payloadData.getEmail());
@@ -168,7 +160,7 @@ public class JweService
         claims.put("sessionID", payloadData.getSessionID());
         claims.put("bSID", payloadData.getBSID());
         claims.put("tokenType", TokenType.REFRESH);
-        return jweUtil.doGenerate(claims, issuer, publicKey, securityProperties.getRefreshTokenExpiration());
+        return jweTokenCodec.encrypt(claims, issuer, securityProperties.getRefreshTokenExpiration(), AllowedOriginMeta.fromAppName(appName));
     }
 
     /**
@@ -180,6 +172,26 @@ public class JweService
      */  
     public boolean isTokenExpired(String token) throws JOSEException
     {
-        return jweUtil.isExpired(token, privateKey);
+        try
+        {
+            return tokenViewResolver.resolve(token).isExpired();
+        }
+        catch (ParseException e)
+        {
+            throw new JOSEException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the decrypted view of the given token, decrypting it at most once per request.
+     *
+     * @param token The JSON Web Token to resolve.
+     * @return The {@link TokenView} of the token.
+     * @throws JOSEException If an error occurs during the decryption process.
+     * @throws ParseException If an error occurs while parsing the token.
+     */
+    public TokenView getTokenView(String token) throws JOSEException, ParseException
+    {
+        return tokenViewResolver.resolve(token);
     }
 }
\ No newline at end of file
@@ -0,0 +1,237 @@
+package com.zentois.authbeast.security.jwe;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.nimbusds.jose.EncryptionMethod;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWEAlgorithm;
+import com.nimbusds.jose.JWEHeader;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.DirectDecrypter;
+import com.nimbusds.jwt.EncryptedJWT;
+import com.nimbusds.jwt.JWT;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.JWTParser;
+import com.nimbusds.jwt.SignedJWT;
+import com.zentois.authbeast.enums.ErrorDescription;
+import com.zentois.authbeast.enums.allowed_origin.AllowedOriginMeta;
+import com.zentois.authbeast.enums.token.TokenProfile;
+import com.zentois.authbeast.security.aes.AesKeyService;
+import com.zentois.authbeast.security.ec.EcKeyService;
+import com.zentois.authbeast.security.rsa.RsaKeyEntry;
+import com.zentois.authbeast.security.rsa.RsaKeyRing;
+import com.zentois.framework.security.jwe.JweUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Encrypts and decrypts JWE tokens with the keys of the {@link RsaKeyRing} or, for applications using the
+ * {@link TokenProfile#DIRECT} profile, with the application's symmetric key from the {@link AesKeyService}.
+ *
+ * Every token carries a {@code kid} in the header, so decryption picks the right key with a single lookup:
+ * the RSA key thumbprint for {@code RSA-OAEP-256} tokens and the application name for {@code dir} tokens.
+ * Tokens without a {@code kid} were issued before the key ring existed and are handled by {@link JweUtil}
+ * with the legacy key. Access tokens of applications using the {@link TokenProfile#SIGNED_ES256} profile are
+ * signed instead of encrypted and verified with the key of the {@link EcKeyService}.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@Component
+@RequiredArgsConstructor
+public class JweTokenCodec
+{
+    private final RsaKeyRing rsaKeyRing;
+
+    private final AesKeyService aesKeyService;
+
+    private final EcKeyService ecKeyService;
+
+    private final JweUtil jweUtil;
+
+    /**
+     * Builds and encrypts a token with the active key.
+     *
+     * @param claims The custom claims of the token.
+     * @param issuer The issuer of the token.
+     * @param expiration The lifetime of the token in milliseconds.
+     * @return The compact serialized JWE token.
+     * @throws JOSEException If the token can not be encrypted.
+     */
+    public String encrypt(Map<String, Object> claims, String issuer, long expiration) throws JOSEException
+    {
+        final RsaKeyEntry key = rsaKeyRing.getActiveKey();
+        final JWEHeader header = new JWEHeader.Builder(JWEAlgorithm.RSA_OAEP_256, EncryptionMethod.A256GCM)
+            .type(JOSEObjectType.JWT)
+            .keyID(key.getKid())
+            .build();
+
+        final EncryptedJWT jwt = new EncryptedJWT(header, buildClaimsSet(claims, issuer, expiration));
+        jwt.encrypt(key.getEncrypter());
+        return jwt.serialize();
+    }
+
+    /**
+     * Builds and encrypts a token according to the token profile of the given application.
+     *
+     * @param claims The custom claims of the token.
+     * @param issuer The issuer of the token.
+     * @param expiration The lifetime of the token in milliseconds.
+     * @param app The application the token is issued for, or null to use the RSA key ring.
+     * @return The compact serialized JWE token.
+     * @throws JOSEException If the token can not be encrypted.
+     */
+    public String encrypt(Map<String, Object> claims, String issuer, long expiration, AllowedOriginMeta app) throws JOSEException
+    {
+        if (app == null || app.getTokenProfile() != TokenProfile.DIRECT)
+        {
+            return encrypt(claims, issuer, expiration);
+        }
+
+        final JWEHeader header = new JWEHeader.Builder(JWEAlgorithm.DIR, EncryptionMethod.A256GCM)
+            .type(JOSEObjectType.JWT)
+            .keyID(app.name())
+            .build();
+
+        final EncryptedJWT jwt = new EncryptedJWT(header, buildClaimsSet(claims, issuer, expiration));
+        jwt.encrypt(aesKeyService.getEncrypter(app));
+        return jwt.serialize();
+    }
+
+    /**
+     * Builds and signs an ES256 access token with the signing key of the {@link EcKeyService}.
+     * The token is not encrypted, so resource servers can verify it locally with the published public key.
+     *
+     * @param claims The custom claims of the token.
+     * @param issuer The issuer of the token.
+     * @param expiration The lifetime of the token in milliseconds.
+     * @return The compact serialized JWS token.
+     * @throws JOSEException If the token can not be signed.
+     */
+    public String sign(Map<String, Object> claims, String issuer, long expiration) throws JOSEException
+    {
+        final JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.ES256)
+            .type(JOSEObjectType.JWT)
+            .keyID(ecKeyService.getKid())
+            .build();
+
+        final SignedJWT jwt = new SignedJWT(header, buildClaimsSet(claims, issuer, expiration));
+        jwt.sign(ecKeyService.getSigner());
+        return jwt.serialize();
+    }
+
+    /**
+     * Decrypts, or verifies for signed tokens, a token and returns its claims without checking the expiry.
+     * Callers should go through the {@link TokenViewResolver}, which decrypts each token once per request.
+     *
+     * @param token The compact serialized JWE or JWS token.
+     * @return The claims of the token.
+     * @throws JOSEException If the key is unknown, the token can not be decrypted or its signature is invalid.
+     * @throws ParseException If the token can not be parsed.
+     */
+    public JWTClaimsSet decrypt(String token) throws JOSEException, ParseException
+    {
+        final JWT jwt = JWTParser.parse(token);
+        if (isLegacy(jwt))
+        {
+            return jweUtil.extractClaimsIfExpired(token, rsaKeyRing.getLegacyKey().getPrivateKey());
+        }
+        return readClaims(jwt);
+    }
+
+    /**
+     * Checks if the token was issued before the key ring existed, i.e. it is encrypted and carries no {@code kid}.
+     */
+    private boolean isLegacy(JWT jwt)
+    {
+        return jwt instanceof EncryptedJWT encryptedJwt && encryptedJwt.getHeader().getKeyID() == null;
+    }
+
+    private JWTClaimsSet readClaims(JWT jwt) throws JOSEException, ParseException
+    {
+        if (jwt instanceof SignedJWT signedJwt)
+        {
+            if (!ecKeyService.getKid().equals(signedJwt.getHeader().getKeyID()) || !signedJwt.verify(ecKeyService.getVerifier()))
+            {
+                throw new JOSEException(ErrorDescription.INVALID_TOKEN_SIGNATURE.getMessage());
+            }
+            return signedJwt.getJWTClaimsSet();
+        }
+        if (!(jwt instanceof EncryptedJWT encryptedJwt))
+        {
+            throw new JOSEException(ErrorDescription.INVALID_TOKEN_SIGNATURE.getMessage());
+        }
+
+        final String kid = encryptedJwt.getHeader().getKeyID();
+        if (JWEAlgorithm.DIR.equals(encryptedJwt.getHeader().getAlgorithm()))
+        {
+            encryptedJwt.decrypt(getDirectDecrypter(kid));
+            return encryptedJwt.getJWTClaimsSet();
+        }
+
+        final RsaKeyEntry key = rsaKeyRing.findByKid(kid);
+        if (key == null)
+        {
+            throw new JOSEException(ErrorDescription.UNKNOWN_TOKEN_KEY.getMessage());
+        }
+        encryptedJwt.decrypt(key.getDecrypter());
+        return encryptedJwt.getJWTClaimsSet();
+    }
+
+    /**
+     * Returns the decrypter of a {@code dir} token, which is only accepted for applications using the
+     * {@link TokenProfile#DIRECT} profile while a master secret is configured.
+     */
+    private DirectDecrypter getDirectDecrypter(String kid) throws JOSEException
+    {
+        final AllowedOriginMeta app = findApp(kid);
+        if (app.getTokenProfile() != TokenProfile.DIRECT)
+        {
+            throw new JOSEException(ErrorDescription.UNKNOWN_TOKEN_KEY.getMessage());
+        }
+
+        try
+        {
+            return aesKeyService.getDecrypter(app);
+        }
+        catch (IllegalStateException e)
+        {
+            throw new JOSEException(ErrorDescription.UNKNOWN_TOKEN_KEY.getMessage(), e);
+        }
+    }
+
+    private AllowedOriginMeta findApp(String kid) throws JOSEException
+    {
+        if (kid == null)
+        {
+            throw new JOSEException(ErrorDescription.UNKNOWN_TOKEN_KEY.getMessage());
+        }
+
+        try
+        {
+            return AllowedOriginMeta.valueOf(kid);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new JOSEException(ErrorDescription.UNKNOWN_TOKEN_KEY.getMessage(), e);
+        }
+    }
+
+    private JWTClaimsSet buildClaimsSet(Map<String, Object> claims, String issuer, long expiration)
+    {
+        final Date now = new Date();
+        final JWTClaimsSet.Builder builder = new JWTClaimsSet.Builder()
+            .issuer(issuer)
+            .issueTime(now)
+            .expirationTime(new Date(now.getTime() + expiration));
+        claims.forEach((name, value) -> builder.claim(name, value instanceof Enum<?> constant ? constant.name() : value));
+        return builder.build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,134 @@
+package com.zentois.authbeast.security.jwe;
+
+import java.util.Date;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.zentois.authbeast.enums.ErrorDescription;
+import com.zentois.authbeast.enums.token.TokenType;
+
+/**
+ * A decrypted token with typed accessors for the claims the SSO server reads.
+ *
+ * A view is created once per token and request by the {@link TokenViewResolver}, so reading the expiry, the
+ * session ID and then the full claims of the same token costs a single decryption. The view itself does not
+ * check the expiry, {@link #getValidClaims()} does.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+public class TokenView
+{
+    private static final String SESSION_ID_CLAIM = "sessionID";
+
+    private static final String BROWSER_SESSION_ID_CLAIM = "bSID";
+
+    private static final String EMAIL_CLAIM = "email";
+
+    private static final String TOKEN_TYPE_CLAIM = "tokenType";
+
+    private final JWTClaimsSet claims;
+
+    /**
+     * Creates a view of the given decrypted claims.
+     *
+     * @param claims The decrypted claims of the token.
+     */
+    public TokenView(JWTClaimsSet claims)
+    {
+        this.claims = claims;
+    }
+
+    /**
+     * Returns the claims of the token, failing if the token has expired.
+     *
+     * @return The claims of the token.
+     * @throws JOSEException If the token has expired.
+     */
+    public JWTClaimsSet getValidClaims() throws JOSEException
+    {
+        if (isExpired())
+        {
+            throw new JOSEException(ErrorDescription.TOKEN_EXPIRED.getMessage());
+        }
+        return claims;
+    }
+
+    /**
+     * Returns the claims of the token without checking the expiry.
+     *
+     * @return The claims of the token.
+     */
+    public JWTClaimsSet getClaims()
+    {
+        return claims;
+    }
+
+    /**
+     * Returns the expiry of the token.
+     *
+     * @return The expiry, or null if the token does not expire.
+     */
+    public Date getExpiry()
+    {
+        return claims.getExpirationTime();
+    }
+
+    /**
+     * Checks if the token is expired.
+     *
+     * @return {@code true} if the token is expired; {@code false} otherwise.
+     */
+    public boolean isExpired()
+    {
+        return claims.getExpirationTime() != null && claims.getExpirationTime().before(new Date());
+    }
+
+    /**
+     * Returns the session ID of the signed in account.
+     *
+     * @return The session ID, or null if the claim is missing.
+     */
+    public String getSessionId()
+    {
+        return getString(SESSION_ID_CLAIM);
+    }
+
+    /**
+     * Returns the browser session ID the token was issued in.
+     *
+     * @return The browser session ID, or null if the claim is missing.
+     */
+    public String getBrowserSessionId()
+    {
+        return getString(BROWSER_SESSION_ID_CLAIM);
+    }
+
+    /**
+     * Returns the email of the account the token was issued for.
+     *
+     * @return The email, or null if the claim is missing.
+     */
+    public String getEmail()
+    {
+        return getString(EMAIL_CLAIM);
+    }
+
+    /**
+     * Returns the type of the token.
+     *
+     * @return The token type, or null if the claim is missing.
+     */
+    public TokenType getTokenType()
+    {
+        final String tokenType = getString(TOKEN_TYPE_CLAIM);
+        return tokenType == null ? null : TokenType.valueOf(tokenType);
+    }
+
+    private String getString(String name)
+    {
+        final Object value = claims.getClaim(name);
+        return value == null ? null : value.toString();
+    }
+}
\ No newline at end of file
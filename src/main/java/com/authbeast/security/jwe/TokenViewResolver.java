@@ -0,0 +1,105 @@
+package com.zentois.authbeast.security.jwe;
+
+import java.text.ParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.nimbusds.jose.JOSEException;
+import com.zentois.authbeast.enums.ErrorDescription;
+import com.zentois.authbeast.enums.token.TokenType;
+import com.zentois.authbeast.utils.cache.TokenClaimsCache;
+import com.zentois.authbeast.utils.cache.UserSessionIndex;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves a token to its {@link TokenView}, decrypting each token at most once per request.
+ *
+ * The views of the current request are memoized in a request attribute, so the refresh flow, which reads the
+ * expiry, the session ID and the claims of the same refresh token, pays for a single RSA operation.
+ * Unexpired tokens are also kept in the {@link TokenClaimsCache}, so a token presented again in a later request
+ * is not decrypted a second time.
+ *
+ * A refresh token is rejected once its family was revoked by {@link UserSessionIndex#revokeAll(String)}, which is
+ * checked in Redis once per request, whether the view was decrypted or found in the cache.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenViewResolver
+{
+    private static final String REQUEST_ATTRIBUTE = TokenViewResolver.class.getName() + ".views";
+
+    private final JweTokenCodec jweTokenCodec;
+
+    private final TokenClaimsCache tokenClaimsCache;
+
+    private final UserSessionIndex userSessionIndex;
+
+    /**
+     * Returns the view of the given token.
+     *
+     * @param token The compact serialized token.
+     * @return The view of the decrypted token.
+     * @throws JOSEException If the key is unknown, the token can not be decrypted, its signature is invalid or the
+     *         family of the refresh token was revoked.
+     * @throws ParseException If the token can not be parsed.
+     */
+    public TokenView resolve(String token) throws JOSEException, ParseException
+    {
+        final Map<String, TokenView> views = getRequestViews();
+        if (views == null)
+        {
+            return load(token);
+        }
+
+        TokenView view = views.get(token);
+        if (view == null)
+        {
+            view = load(token);
+            views.put(token, view);
+        }
+        return view;
+    }
+
+    private TokenView load(String token) throws JOSEException, ParseException
+    {
+        TokenView view = tokenClaimsCache.get(token);
+        if (view == null)
+        {
+            view = new TokenView(jweTokenCodec.decrypt(token));
+            tokenClaimsCache.put(token, view);
+        }
+
+        if (view.getTokenType() == TokenType.REFRESH && view.getSessionId() != null && userSessionIndex.isFamilyRevoked(view.getSessionId()))
+        {
+            throw new JOSEException(ErrorDescription.TOKEN_REVOKED.getMessage());
+        }
+        return view;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, TokenView> getRequestViews()
+    {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null)
+        {
+            return null;
+        }
+
+        Map<String, TokenView> views = (Map<String, TokenView>) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (views == null)
+        {
+            views = new HashMap<>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, views, RequestAttributes.SCOPE_REQUEST);
+        }
+        return views;
+    }
+}
\ No newline at end of file
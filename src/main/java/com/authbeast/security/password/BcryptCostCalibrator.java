@@ -0,0 +1,87 @@
+package com.zentois.authbeast.security.password;
+
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import com.zentois.authbeast.config.SecurityProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Utility class picking the BCrypt cost factor for this machine.
+ *
+ * Every additional cost doubles the work of a hash, so the time of a hash at the lowest allowed cost is measured and the
+ * highest cost whose projected time still meets {@code security.password-hashing.target-millis} is picked. A fixed
+ * {@code security.password-hashing.strength} skips the calibration, e.g. to keep every node of a cluster at the same cost.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Slf4j
+public class BcryptCostCalibrator
+{
+    private static final int SAMPLES = 3;
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BcryptCostCalibrator()
+    {
+    }
+
+    /**
+     * Returns the cost factor new hashes are created with.
+     *
+     * @param settings the password hashing settings
+     * @return the configured cost, or the calibrated one if none is configured
+     */
+    public static int resolveStrength(SecurityProperties.PasswordHashing settings)
+    {
+        if (settings.getStrength() > 0)
+        {
+            return settings.getStrength();
+        }
+
+        final int minStrength = settings.getMinStrength();
+        // the first hash also warms up the JIT, so only the fastest sample counts
+        long baseNanos = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++)
+        {
+            final long startedAt = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(minStrength));
+            baseNanos = Math.min(baseNanos, System.nanoTime() - startedAt);
+        }
+
+        final long targetNanos = settings.getTargetMillis() * 1_000_000;
+        int strength = minStrength;
+        while (strength < settings.getMaxStrength() && baseNanos << (strength + 1 - minStrength) <= targetNanos)
+        {
+            strength++;
+        }
+
+        log.info("Calibrated BCrypt cost {}: a hash at cost {} took {} ms, target is {} ms", strength, minStrength, baseNanos / 1_000_000, settings.getTargetMillis());
+        return strength;
+    }
+
+    /**
+     * Returns the cost factor of the given BCrypt hash.
+     *
+     * @param encodedPassword the BCrypt hash, e.g. {@code $2a$10$...}
+     * @return the cost factor, or -1 if the hash is not a BCrypt hash
+     */
+    public static int costOf(String encodedPassword)
+    {
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(0) != '$' || encodedPassword.charAt(6) != '$')
+        {
+            return -1;
+        }
+
+        try
+        {
+            return Integer.parseInt(encodedPassword.substring(4, 6));
+        }
+        catch (NumberFormatException e)
+        {
+            return -1;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,205 @@
+package com.zentois.authbeast.security.password;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.zentois.authbeast.config.SecurityProperties;
+import com.zentois.authbeast.enums.ErrorDescription;
+import com.zentois.authbeast.exception.PasswordHashingOverloadedException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs BCrypt password hashing on a dedicated executor, so a burst of sign-in attempts can only occupy a bounded
+ * number of servlet threads.
+ *
+ * The executor has a fixed number of threads and a bounded queue. A request that finds the queue full, or does not
+ * get its hash within {@code security.password-hashing.max-wait}, fails fast with a
+ * {@link PasswordHashingOverloadedException}, which is answered with a 503 and a {@code Retry-After} header. At most
+ * {@code threads + queue-capacity} servlet threads are ever waiting on a hash, the rest keep serving cheap requests
+ * such as token refreshes.
+ *
+ * The queue depth is exported as the {@code password.hashing.queue.depth} gauge, the time spent queued and hashing as
+ * the {@code password.hashing.wait} and {@code password.hashing.duration} timers, and shed requests as the
+ * {@code password.hashing.rejected} counter tagged with the reason. Every successful login is counted in
+ * {@code password.hash.cost.logins}, tagged with the cost of the stored hash it was verified against. It counts logins,
+ * not accounts: an account that signs in often is counted often, so the share of logins still verified against a
+ * lower cost shows how much of the active traffic is waiting for its rehash.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@Component
+public class PasswordHashingService
+{
+    private final BCryptPasswordEncoder passwordEncoder;
+
+    private final ThreadPoolExecutor executor;
+
+    private final long maxWaitMillis;
+
+    private final int retryAfterSeconds;
+
+    private final Timer waitTimer;
+
+    private final Timer hashTimer;
+
+    private final Counter queueFull;
+
+    private final Counter timedOut;
+
+    private final MeterRegistry meterRegistry;
+
+    public PasswordHashingService(BCryptPasswordEncoder passwordEncoder, SecurityProperties securityProperties, MeterRegistry meterRegistry)
+    {
+        this.passwordEncoder = passwordEncoder;
+
+        final SecurityProperties.PasswordHashing settings = securityProperties.getPasswordHashing();
+        final int threads = settings.getThreads() > 0 ? settings.getThreads() : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(settings.getQueueCapacity()), new HashingThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+        this.maxWaitMillis = settings.getMaxWait();
+        this.retryAfterSeconds = settings.getRetryAfterSeconds();
+
+        Gauge.builder("password.hashing.queue.depth", executor, pool -> pool.getQueue().size())
+            .description("Password hashing requests waiting for a thread")
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("password.hashing.wait")
+            .description("Time password hashing requests spend queued")
+            .register(meterRegistry);
+        this.hashTimer = Timer.builder("password.hashing.duration")
+            .description("Time spent hashing a password")
+            .register(meterRegistry);
+        this.queueFull = meterRegistry.counter("password.hashing.rejected", "reason", "queue-full");
+        this.timedOut = meterRegistry.counter("password.hashing.rejected", "reason", "timeout");
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Checks if the raw password matches the encoded password.
+     *
+     * @param rawPassword the password entered by the user
+     * @param encodedPassword the stored BCrypt hash
+     * @return {@code true} if the passwords match; {@code false} otherwise.
+     * @throws PasswordHashingOverloadedException If the executor is saturated.
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword)
+    {
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Encodes the raw password with BCrypt.
+     *
+     * @param rawPassword the password to encode
+     * @return the BCrypt hash
+     * @throws PasswordHashingOverloadedException If the executor is saturated.
+     */
+    public String encode(CharSequence rawPassword)
+    {
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Checks if the given stored hash was created with a lower cost than new hashes are, and counts the login against its cost.
+     * A hash that needs a rehash should be replaced with {@link #encode} once the password was verified.
+     *
+     * @param encodedPassword the stored BCrypt hash
+     * @return {@code true} if the hash should be upgraded; {@code false} otherwise.
+     */
+    public boolean needsRehash(String encodedPassword)
+    {
+        meterRegistry.counter("password.hash.cost.logins", "cost", String.valueOf(BcryptCostCalibrator.costOf(encodedPassword))).increment();
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Stops the hashing threads when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown()
+    {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Supplier<T> hashing)
+    {
+        final long submittedAt = System.nanoTime();
+        final Future<T> future;
+        try
+        {
+            future = executor.submit(() ->
+            {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(hashing);
+            });
+        }
+        catch (RejectedExecutionException e)
+        {
+            queueFull.increment();
+            throw overloaded();
+        }
+
+        try
+        {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        }
+        catch (TimeoutException e)
+        {
+            // a queued request that is cancelled is skipped by the worker that dequeues it
+            future.cancel(true);
+            timedOut.increment();
+            throw overloaded();
+        }
+        catch (InterruptedException e)
+        {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ErrorDescription.ERROR_PROCESSING_FAILURE.getMessage(), e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException cause)
+            {
+                throw cause;
+            }
+            throw new RuntimeException(ErrorDescription.ERROR_PROCESSING_FAILURE.getMessage(), e.getCause());
+        }
+    }
+
+    private PasswordHashingOverloadedException overloaded()
+    {
+        return new PasswordHashingOverloadedException(ErrorDescription.PASSWORD_HASHING_OVERLOADED.getMessage(), retryAfterSeconds);
+    }
+
+    /**
+     * Creates named daemon threads, so hashing threads are recognizable in thread dumps and never block a shutdown.
+     */
+    private static class HashingThreadFactory implements ThreadFactory
+    {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable)
+        {
+            final Thread thread = new Thread(runnable, "password-hashing-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
\ No newline at end of file
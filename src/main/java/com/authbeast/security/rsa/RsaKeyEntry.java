@@ -0,0 +1,77 @@
+package com.zentois.authbeast.security.rsa;
+
+import java.security.KeyPair;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.crypto.RSADecrypter;
+import com.nimbusds.jose.crypto.RSAEncrypter;
+import com.nimbusds.jose.jwk.RSAKey;
+
+import lombok.Getter;
+
+/**
+ * A single RSA key pair of the {@link RsaKeyRing}.
+ *
+ * The key id ({@code kid}) is the RFC 7638 thumbprint of the public key, so every node that loads the same
+ * key pair derives the same id. The encrypter and decrypter are created once and shared, both are thread safe.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Getter
+public class RsaKeyEntry
+{
+    private final String kid;
+
+    private final RSAPublicKey publicKey;
+
+    private final RSAPrivateKey privateKey;
+
+    private final RSAEncrypter encrypter;
+
+    private final RSADecrypter decrypter;
+
+    private final long createdAt;
+
+    private volatile long retiredAt;
+
+    /**
+     * Creates a new key ring entry for the given key pair.
+     *
+     * @param keyPair The RSA key pair.
+     * @param createdAt The time the key pair was created, in milliseconds since epoch.
+     * @throws JOSEException If the thumbprint of the public key can not be computed.
+     */
+    public RsaKeyEntry(KeyPair keyPair, long createdAt) throws JOSEException
+    {
+        this.publicKey = (RSAPublicKey) keyPair.getPublic();
+        this.privateKey = (RSAPrivateKey) keyPair.getPrivate();
+        this.kid = new RSAKey.Builder(publicKey).build().computeThumbprint().toString();
+        this.encrypter = new RSAEncrypter(publicKey);
+        this.decrypter = new RSADecrypter(privateKey);
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Marks the key as retired. A retired key is no longer used to encrypt but still decrypts existing tokens.
+     *
+     * @param retiredAt The time the key was retired, in milliseconds since epoch.
+     */
+    public void retire(long retiredAt)
+    {
+        this.retiredAt = retiredAt;
+    }
+
+    /**
+     * Checks if the key has been retired.
+     *
+     * @return {@code true} if the key is retired, {@code false} if it is active or pending.
+     */
+    public boolean isRetired()
+    {
+        return retiredAt > 0;
+    }
+}
\ No newline at end of file
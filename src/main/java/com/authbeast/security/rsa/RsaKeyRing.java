@@ -0,0 +1,269 @@
+package com.zentois.authbeast.security.rsa;
+
+import java.security.KeyPair;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.InvalidKeySpecException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Pattern;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nimbusds.jose.JOSEException;
+import com.zentois.authbeast.config.SecurityProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Holds the active and retired RSA keys used to encrypt and decrypt tokens, indexed by key id ({@code kid}).
+ *
+ * Exactly one key is active and encrypts new tokens. When the rotation interval elapses, the next key, which has
+ * already been generated and stored by a low priority background thread, becomes active and the previous one is
+ * retired. Retired keys keep decrypting existing tokens until no token encrypted with them can still be valid.
+ * Rotation only swaps a reference, so no request thread ever waits for key generation.
+ *
+ * The key pair stored in the original PEM files is kept as the legacy key and decrypts tokens issued without a
+ * {@code kid} header.
+ *
+ * Every node rotates on its own schedule and encrypts with its own active key, so all nodes of a deployment must
+ * share the key store folder ({@link com.zentois.authbeast.enums.PathEnum#LOCAL_FOLDER_PATH}), e.g. on a shared
+ * volume. A node picks up a key generated by another node from the key store on first use. A key is stored when it
+ * is generated, a full rotation interval before it encrypts its first token, so it is always there in time. Key ids
+ * that are not found in the key store are remembered for {@code security.key-ring.missing-kid-ttl}, so tokens with
+ * made up key ids can not force a key store read on every request.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RsaKeyRing
+{
+    private static final Pattern KID_PATTERN = Pattern.compile("[A-Za-z0-9_-]{43}");
+
+    private static final long MAX_MISSING_KIDS = 10_000;
+
+    private final RsaService rsaService;
+
+    private final SecurityProperties securityProperties;
+
+    private final Map<String, RsaKeyEntry> keys = new ConcurrentHashMap<>();
+
+    private final ExecutorService keyGenerator = Executors.newSingleThreadExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "rsa-key-generator");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    private volatile RsaKeyEntry activeKey;
+
+    private volatile RsaKeyEntry legacyKey;
+
+    private volatile CompletableFuture<RsaKeyEntry> nextKey;
+
+    private Cache<String, Boolean> missingKids;
+
+    /**
+     * Loads the legacy key pair and every stored key ring key pair, activates the newest one and starts
+     * the generation of the next key.
+     *
+     * @throws NoSuchAlgorithmException
+     * @throws InvalidKeySpecException
+     * @throws JOSEException If the key id of a key pair can not be computed.
+     */
+    @PostConstruct
+    public void init() throws NoSuchAlgorithmException, InvalidKeySpecException, JOSEException
+    {
+        missingKids = Caffeine.newBuilder()
+            .maximumSize(MAX_MISSING_KIDS)
+            .expireAfterWrite(Duration.ofMillis(securityProperties.getKeyRing().getMissingKidTtl()))
+            .build();
+
+        legacyKey = new RsaKeyEntry(rsaService.loadKeyPairFromFile(), 0);
+        keys.put(legacyKey.getKid(), legacyKey);
+
+        final List<RsaKeyEntry> ringKeys = new ArrayList<>();
+        for (Map.Entry<String, KeyPair> stored : rsaService.loadRingKeyPairs().entrySet())
+        {
+            ringKeys.add(new RsaKeyEntry(stored.getValue(), rsaService.getRingKeyPairCreatedAt(stored.getKey())));
+        }
+        ringKeys.sort(Comparator.comparingLong(RsaKeyEntry::getCreatedAt));
+
+        RsaKeyEntry newest = legacyKey;
+        for (RsaKeyEntry entry : ringKeys)
+        {
+            newest.retire(entry.getCreatedAt());
+            keys.put(entry.getKid(), entry);
+            newest = entry;
+        }
+        activeKey = newest;
+
+        purgeRetiredKeys(System.currentTimeMillis());
+        generateNextKey();
+    }
+
+    /**
+     * Stops the background key generator.
+     */
+    @PreDestroy
+    public void shutdown()
+    {
+        keyGenerator.shutdownNow();
+    }
+
+    /**
+     * Returns the key that encrypts new tokens.
+     *
+     * @return The active key.
+     */
+    public RsaKeyEntry getActiveKey()
+    {
+        return activeKey;
+    }
+
+    /**
+     * Returns the key loaded from the original PEM files, used for tokens that carry no {@code kid} header.
+     *
+     * @return The legacy key.
+     */
+    public RsaKeyEntry getLegacyKey()
+    {
+        return legacyKey;
+    }
+
+    /**
+     * Finds the key with the given key id. Keys that are not known yet are looked up once in the key store,
+     * as they may have been generated by another node. A key id that is not found there is not looked up again
+     * until the missing key id TTL has passed.
+     *
+     * @param kid The key id from the token header.
+     * @return The key, or null if no key with this id exists.
+     */
+    public RsaKeyEntry findByKid(String kid)
+    {
+        final RsaKeyEntry entry = keys.get(kid);
+        if (entry != null || !KID_PATTERN.matcher(kid).matches() || missingKids.getIfPresent(kid) != null)
+        {
+            return entry;
+        }
+
+        final RsaKeyEntry stored = loadStoredKey(kid);
+        if (stored == null)
+        {
+            missingKids.put(kid, Boolean.TRUE);
+        }
+        return stored;
+    }
+
+    /**
+     * Activates the pre-generated next key and retires the current one.
+     * If the next key is not ready yet, the rotation is skipped and retried on the next run.
+     */
+    @Scheduled(initialDelayString = "${security.key-ring.rotation-interval}", fixedDelayString = "${security.key-ring.rotation-interval}")
+    public void rotate()
+    {
+        final CompletableFuture<RsaKeyEntry> pending = nextKey;
+        if (pending == null || !pending.isDone())
+        {
+            log.warn("Next RSA key is not generated yet, key rotation is postponed");
+            return;
+        }
+        if (pending.isCompletedExceptionally())
+        {
+            log.error("Generation of the next RSA key failed, key rotation is postponed");
+            generateNextKey();
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        final RsaKeyEntry next = pending.join();
+        final RsaKeyEntry previous = activeKey;
+        keys.put(next.getKid(), next);
+        activeKey = next;
+        previous.retire(now);
+        log.info("Rotated RSA key {} to {}", previous.getKid(), next.getKid());
+
+        purgeRetiredKeys(now);
+        generateNextKey();
+    }
+
+    /**
+     * Generates and stores the next key on the background thread.
+     */
+    private void generateNextKey()
+    {
+        final int keySize = securityProperties.getKeyRing().getKeySize();
+        nextKey = CompletableFuture.supplyAsync(() -> {
+            try
+            {
+                final RsaKeyEntry entry = new RsaKeyEntry(rsaService.generateKeyPair(keySize), System.currentTimeMillis());
+                rsaService.storeRingKeyPair(entry.getKid(), new KeyPair(entry.getPublicKey(), entry.getPrivateKey()));
+                return entry;
+            }
+            catch (NoSuchAlgorithmException | JOSEException e)
+            {
+                throw new IllegalStateException(e);
+            }
+        }, keyGenerator);
+    }
+
+    /**
+     * Removes the retired keys that can no longer have a valid token, except the legacy key.
+     *
+     * @param now The current time in milliseconds since epoch.
+     */
+    private void purgeRetiredKeys(long now)
+    {
+        final long retireAfter = securityProperties.getKeyRing().getRetireAfter() > 0
+            ? securityProperties.getKeyRing().getRetireAfter()
+            : securityProperties.getRefreshTokenExpiration();
+
+        keys.values().removeIf(entry -> {
+            final boolean expired = entry != legacyKey && entry.isRetired() && entry.getRetiredAt() + retireAfter < now;
+            if (expired)
+            {
+                rsaService.deleteRingKeyPair(entry.getKid());
+            }
+            return expired;
+        });
+    }
+
+    private RsaKeyEntry loadStoredKey(String kid)
+    {
+        try
+        {
+            final KeyPair keyPair = rsaService.loadRingKeyPair(kid);
+            if (keyPair == null)
+            {
+                return null;
+            }
+            final RsaKeyEntry entry = new RsaKeyEntry(keyPair, rsaService.getRingKeyPairCreatedAt(kid));
+            if (!kid.equals(entry.getKid()))
+            {
+                return null;
+            }
+            return keys.computeIfAbsent(kid, key -> entry);
+        }
+        catch (NoSuchAlgorithmException | InvalidKeySpecException | JOSEException e)
+        {
+            log.error("Failed to load RSA key {} from the key store", kid, e);
+            return null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,131 @@
+package com.zentois.authbeast.utils.cache;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import com.zentois.authbeast.model.nceph_entity.Account;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Invalidates the {@link AccountLookupCache} whenever a change of an {@link Account} is committed.
+ *
+ * The listener is registered with Hibernate for the post commit insert, update and delete events, so every save path
+ * of the account repository invalidates the cache, and a rolled back change never does. When an update changes the
+ * email of an account, the entries of the old and the new email are both invalidated.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Component
+@RequiredArgsConstructor
+public class AccountChangeListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener
+{
+    private static final String EMAIL_PROPERTY = "email";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final AccountLookupCache accountLookupCache;
+
+    /**
+     * Registers the listener with the Hibernate session factory.
+     */
+    @PostConstruct
+    public void register()
+    {
+        final EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry()
+            .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister)
+    {
+        return Account.class.isAssignableFrom(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event)
+    {
+        if (event.getEntity() instanceof Account account)
+        {
+            accountLookupCache.invalidate(account.getEmail());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event)
+    {
+        if (event.getEntity() instanceof Account account)
+        {
+            accountLookupCache.invalidate(account.getEmail());
+
+            final String oldEmail = oldEmail(event);
+            if (oldEmail != null && !oldEmail.equalsIgnoreCase(account.getEmail()))
+            {
+                accountLookupCache.invalidate(oldEmail);
+            }
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event)
+    {
+        if (event.getEntity() instanceof Account account)
+        {
+            accountLookupCache.invalidate(account.getEmail());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event)
+    {
+        // nothing was committed, so nothing is stale
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event)
+    {
+        // nothing was committed, so nothing is stale
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event)
+    {
+        // nothing was committed, so nothing is stale
+    }
+
+    private static String oldEmail(PostUpdateEvent event)
+    {
+        final Object[] oldState = event.getOldState();
+        if (oldState == null)
+        {
+            return null;
+        }
+
+        final String[] propertyNames = event.getPersister().getPropertyNames();
+        for (int i = 0; i < propertyNames.length; i++)
+        {
+            if (EMAIL_PROPERTY.equals(propertyNames[i]))
+            {
+                return oldState[i] instanceof String email ? email : null;
+            }
+        }
+        return null;
+    }
+}
\ No newline at end of file
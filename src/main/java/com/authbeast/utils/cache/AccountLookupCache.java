@@ -0,0 +1,144 @@
+package com.zentois.authbeast.utils.cache;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.zentois.authbeast.config.CacheProperties;
+import com.zentois.authbeast.dto.account.AccountSnapshot;
+import com.zentois.authbeast.enums.redis.RedisChannel;
+import com.zentois.authbeast.model.nceph_entity.Account;
+import com.zentois.authbeast.repository.AccountRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process cache of the {@link AccountSnapshot} of every recently used account, keyed by the normalized email.
+ *
+ * A sign-in reads the account row to verify the password, and minting the first access token needs the same account
+ * again. The provider puts the account it has just read into this cache, so the rest of the flow is served from memory.
+ * Emails without an account are never cached, so an account is visible as soon as it is created.
+ *
+ * Every committed change of an account is reported by the {@link AccountChangeListener}, which evicts the entry on
+ * this node right away and on every other node through
+ * {@link com.zentois.authbeast.enums.redis.RedisChannel#PRIVILEGE_MAPPING_CHANGED}. Changes made outside of the SSO
+ * server are picked up once the entry expires.
+ *
+ * Hit, miss and eviction counts are exported as {@code cache.*} meters tagged with {@code cache=account.lookup}.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Slf4j
+@Component
+public class AccountLookupCache
+{
+    private final AccountRepository accountRepository;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final LoadingCache<String, AccountSnapshot> accounts;
+
+    public AccountLookupCache(AccountRepository accountRepository, RedisTemplate<String, String> redisTemplate, CacheProperties cacheProperties, MeterRegistry meterRegistry)
+    {
+        this.accountRepository = accountRepository;
+        this.redisTemplate = redisTemplate;
+
+        final CacheProperties.Bounded bounds = cacheProperties.getAccountLookup();
+        this.accounts = Caffeine.newBuilder()
+            .maximumSize(bounds.getMaximumSize())
+            .expireAfterWrite(Duration.ofSeconds(bounds.getTtlSeconds()))
+            .recordStats()
+            .build(this::load);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, accounts, "account.lookup");
+    }
+
+    /**
+     * Returns the snapshot of the account registered with the given email.
+     *
+     * @param email the email of the account
+     * @return the account snapshot, or null if no account is registered with the given email
+     */
+    public AccountSnapshot get(String email)
+    {
+        return accounts.get(normalize(email));
+    }
+
+    /**
+     * Caches the snapshot of an account that was just read from the database.
+     *
+     * @param account the account entity
+     */
+    public void put(Account account)
+    {
+        accounts.put(normalize(account.getEmail()), snapshot(account));
+    }
+
+    /**
+     * Drops the cached snapshot of the given email on this node.
+     *
+     * @param email the email of the account
+     */
+    public void evict(String email)
+    {
+        accounts.invalidate(normalize(email));
+    }
+
+    /**
+     * Drops every cached snapshot on this node.
+     */
+    public void evictAll()
+    {
+        accounts.invalidateAll();
+    }
+
+    /**
+     * Drops the cached snapshot of the given email on this node and on every other node.
+     *
+     * @param email the email of the account
+     */
+    public void invalidate(String email)
+    {
+        evict(email);
+        try
+        {
+            redisTemplate.convertAndSend(RedisChannel.PRIVILEGE_MAPPING_CHANGED.getChannel(), PrivilegeClaimCache.accountEviction(normalize(email)));
+        }
+        catch (RuntimeException e)
+        {
+            // the change is already committed, the other nodes catch up when their entry expires
+            log.warn("Failed to publish the eviction of an account", e);
+        }
+    }
+
+    private AccountSnapshot load(String email)
+    {
+        return accountRepository.findByEmail(email).map(AccountLookupCache::snapshot).orElse(null);
+    }
+
+    private static AccountSnapshot snapshot(Account account)
+    {
+        return AccountSnapshot.builder()
+            .id(account.getId())
+            .email(account.getEmail())
+            .entityId(account.getEntity().getId())
+            .entityRoleId(account.getEntityRoleId())
+            .username(account.getUsername())
+            .enabled(account.isEnabled())
+            .archived(account.isArchive())
+            .build();
+    }
+
+    private static String normalize(String email)
+    {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
\ No newline at end of file
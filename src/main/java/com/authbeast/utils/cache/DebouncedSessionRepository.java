@@ -0,0 +1,164 @@
+package com.zentois.authbeast.utils.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository.RedisSession;
+
+/**
+ * Debounces the write Spring Session issues on every request to slide the expiry of a session.
+ *
+ * The session repository filter sets the last access time of the session on every request. The indexed repository
+ * then rewrites the last access time of the session hash, its expiry, the expires key and the expirations sets,
+ * although no attribute changed. This repository wraps the indexed one and only lets the last access time through
+ * once the {@link TtlRefreshPolicy} asks for it, i.e. once less than {@code redis-key.ttl-refresh.threshold} of the
+ * maximum inactive interval is left. A request that neither sets an attribute nor extends the expiry writes nothing.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+public class DebouncedSessionRepository implements FindByIndexNameSessionRepository<DebouncedSessionRepository.DebouncedSession>
+{
+    private final RedisIndexedSessionRepository delegate;
+
+    private final TtlRefreshPolicy ttlRefreshPolicy;
+
+    public DebouncedSessionRepository(RedisIndexedSessionRepository delegate, TtlRefreshPolicy ttlRefreshPolicy)
+    {
+        this.delegate = delegate;
+        this.ttlRefreshPolicy = ttlRefreshPolicy;
+    }
+
+    @Override
+    public DebouncedSession createSession()
+    {
+        return wrap(delegate.createSession());
+    }
+
+    @Override
+    public void save(DebouncedSession session)
+    {
+        delegate.save(session.session);
+    }
+
+    @Override
+    public DebouncedSession findById(String id)
+    {
+        return wrap(delegate.findById(id));
+    }
+
+    @Override
+    public void deleteById(String id)
+    {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public Map<String, DebouncedSession> findByIndexNameAndIndexValue(String indexName, String indexValue)
+    {
+        final Map<String, DebouncedSession> sessions = new LinkedHashMap<>();
+        delegate.findByIndexNameAndIndexValue(indexName, indexValue).forEach((id, session) -> sessions.put(id, wrap(session)));
+        return sessions;
+    }
+
+    private DebouncedSession wrap(RedisSession session)
+    {
+        return session == null ? null : new DebouncedSession(session);
+    }
+
+    /**
+     * A session of the indexed repository whose last access time is only updated when its expiry needs to be extended.
+     */
+    public final class DebouncedSession implements Session
+    {
+        private final RedisSession session;
+
+        private DebouncedSession(RedisSession session)
+        {
+            this.session = session;
+        }
+
+        @Override
+        public void setLastAccessedTime(Instant lastAccessedTime)
+        {
+            final Duration maxInactiveInterval = session.getMaxInactiveInterval();
+            if (maxInactiveInterval.isNegative() || ttlRefreshPolicy.shouldRefresh(session.getLastAccessedTime().plus(maxInactiveInterval), maxInactiveInterval))
+            {
+                session.setLastAccessedTime(lastAccessedTime);
+            }
+        }
+
+        @Override
+        public String getId()
+        {
+            return session.getId();
+        }
+
+        @Override
+        public String changeSessionId()
+        {
+            return session.changeSessionId();
+        }
+
+        @Override
+        public <T> T getAttribute(String attributeName)
+        {
+            return session.getAttribute(attributeName);
+        }
+
+        @Override
+        public Set<String> getAttributeNames()
+        {
+            return session.getAttributeNames();
+        }
+
+        @Override
+        public void setAttribute(String attributeName, Object attributeValue)
+        {
+            session.setAttribute(attributeName, attributeValue);
+        }
+
+        @Override
+        public void removeAttribute(String attributeName)
+        {
+            session.removeAttribute(attributeName);
+        }
+
+        @Override
+        public Instant getCreationTime()
+        {
+            return session.getCreationTime();
+        }
+
+        @Override
+        public Instant getLastAccessedTime()
+        {
+            return session.getLastAccessedTime();
+        }
+
+        @Override
+        public void setMaxInactiveInterval(Duration interval)
+        {
+            session.setMaxInactiveInterval(interval);
+        }
+
+        @Override
+        public Duration getMaxInactiveInterval()
+        {
+            return session.getMaxInactiveInterval();
+        }
+
+        @Override
+        public boolean isExpired()
+        {
+            return session.isExpired();
+        }
+    }
+}
\ No newline at end of file
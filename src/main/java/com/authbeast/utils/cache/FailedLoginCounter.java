@@ -0,0 +1,68 @@
+package com.zentois.authbeast.utils.cache;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.zentois.authbeast.config.RedisKeyProperties;
+import com.zentois.authbeast.enums.redis.RedisKeyKind;
+import com.zentois.authbeast.utils.hash.HashingUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Counts the failed logins of an account in Redis, so a login only writes to the database when the lock state of the
+ * account changes.
+ *
+ * Failures are counted with an atomic {@code INCR} in a server side script that also starts the window of
+ * {@link RedisKeyKind#FAILED_LOGINS}, so concurrent failures on different nodes are never lost and a counter can not
+ * outlive its window. The counter is keyed by the SHA-256 of the normalized email, so no email appears in a key name.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Component
+@RequiredArgsConstructor
+public class FailedLoginCounter
+{
+    private static final String DIGEST_ALGO = "SHA-256";
+
+    private static final RedisScript<Long> RECORD_FAILED_LOGIN_SCRIPT = RedisScript.of(new ClassPathResource("scripts/record_failed_login.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final RedisKeyProperties redisKeyProperties;
+
+    /**
+     * Records a failed login of the account.
+     *
+     * @param email the email of the account
+     * @return the number of failed logins within the current window, including this one
+     */
+    public int recordFailure(String email)
+    {
+        final String window = String.valueOf(redisKeyProperties.getTtl(RedisKeyKind.FAILED_LOGINS).toSeconds());
+        final Long failures = redisTemplate.execute(RECORD_FAILED_LOGIN_SCRIPT, List.of(counterKey(email)), window);
+        return failures == null ? 0 : failures.intValue();
+    }
+
+    /**
+     * Clears the failed logins of the account, e.g. after a successful login or when the account is locked.
+     *
+     * @param email the email of the account
+     */
+    public void reset(String email)
+    {
+        redisTemplate.unlink(counterKey(email));
+    }
+
+    private static String counterKey(String email)
+    {
+        return RedisKeyUtil.failedLogins(HashingUtil.hashCodeVerifier(email.trim().toLowerCase(Locale.ROOT), DIGEST_ALGO));
+    }
+}
\ No newline at end of file
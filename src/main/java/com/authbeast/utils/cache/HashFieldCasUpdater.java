@@ -0,0 +1,107 @@
+package com.zentois.authbeast.utils.cache;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.zentois.authbeast.enums.ErrorDescription;
+import com.zentois.util.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Updates a JSON value held in a single Redis hash field with an optimistic compare-and-set.
+ *
+ * Only the field and its version field are read. The updated value is written back by a script that succeeds only if no
+ * other request changed the version in between. On a conflict the field is read again and the update logic is applied to
+ * the fresh value, up to {@value #MAX_CAS_ATTEMPTS} times. The update logic may therefore run more than once. Conflicts
+ * and retries are counted in {@code redis.session.cas.conflicts} and {@code redis.session.cas.retries}.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@Component
+@RequiredArgsConstructor
+public class HashFieldCasUpdater
+{
+    /**
+     * Suffix of the version field guarding a hash field.
+     */
+    public static final String VERSION_SUFFIX = ":version";
+
+    private static final int MAX_CAS_ATTEMPTS = 5;
+
+    private static final String CAS_CONFLICT_METRIC = "redis.session.cas.conflicts";
+
+    private static final String CAS_RETRY_METRIC = "redis.session.cas.retries";
+
+    private static final RedisScript<Long> CAS_HASH_FIELD_SCRIPT = RedisScript.of(new ClassPathResource("scripts/cas_hash_field.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Applies the update logic to the value of the given hash field and writes it back unless it changed meanwhile.
+     *
+     * @param key The key of the hash.
+     * @param field The field holding the JSON value.
+     * @param type The type of the value.
+     * @param updateLogic Updates the value in place, returning {@code false} to skip the write.
+     * @return {@code true} if the value was written; {@code false} if the field does not exist or the update was skipped.
+     * @throws JsonProcessingException If the value can not be parsed or serialized.
+     * @throws RuntimeException If the update logic fails or every attempt lost to a concurrent update.
+     */
+    public <T> boolean update(String key, String field, Class<T> type, Predicate<T> updateLogic) throws JsonProcessingException
+    {
+        final String versionField = field + VERSION_SUFFIX;
+
+        for (int attempt = 1; attempt <= MAX_CAS_ATTEMPTS; attempt++)
+        {
+            final List<Object> fields = redisTemplate.opsForHash().multiGet(key, List.of(field, versionField));
+            final String json = (String) fields.get(0);
+            final String version = fields.get(1) == null ? "" : (String) fields.get(1);
+
+            if (json == null)
+            {
+                return false;
+            }
+
+            final T value = ObjectMapper.GENERIC_MAPPER.readValue(json, type);
+            final String updatedJson;
+            try
+            {
+                if (value == null || !updateLogic.test(value))
+                {
+                    return false;
+                }
+                updatedJson = ObjectMapper.GENERIC_MAPPER.writeValueAsString(value);
+            }
+            catch (Exception e)
+            {
+                throw new RuntimeException(ErrorDescription.ERROR_PROCESSING_FAILURE.getMessage(), e);
+            }
+
+            final Long written = redisTemplate.execute(CAS_HASH_FIELD_SCRIPT, List.of(key), field, versionField, version, updatedJson);
+            if (written != null && written == 1)
+            {
+                return true;
+            }
+
+            meterRegistry.counter(CAS_CONFLICT_METRIC).increment();
+            if (attempt < MAX_CAS_ATTEMPTS)
+            {
+                meterRegistry.counter(CAS_RETRY_METRIC).increment();
+            }
+        }
+
+        throw new RuntimeException(ErrorDescription.SESSION_UPDATE_CONFLICT.getMessage());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,221 @@
+package com.zentois.authbeast.utils.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.zentois.authbeast.config.CacheProperties;
+import com.zentois.authbeast.dto.account.AccountSnapshot;
+import com.zentois.authbeast.dto.claim.AccountClaimData;
+import com.zentois.authbeast.repository.EntityRolePrivilegeMapRepository;
+import com.zentois.authbeast.repository.ProductPrivilegeMapRepository;
+import com.zentois.authbeast.repository.ProductRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * In-process cache of the reference data needed to build access token claims.
+ *
+ * Minting an access token needs the account row, the privileges of the product and the privileges of the
+ * account's entity role. These rarely change, so they are kept in bounded, time limited caches and a token
+ * for a warm user/app pair is built without touching MySQL. The account is read from the {@link AccountLookupCache},
+ * which the sign-in flow shares. Entries are dropped when their TTL runs out or when a message is published on
+ * {@link com.zentois.authbeast.enums.redis.RedisChannel#PRIVILEGE_MAPPING_CHANGED}.
+ *
+ * Hit, miss and eviction counts are exported as {@code cache.*} meters tagged with the cache name.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@Component
+public class PrivilegeClaimCache implements MessageListener
+{
+    private static final String PRODUCT_PREFIX = "product:";
+
+    private static final String ENTITY_ROLE_PREFIX = "entity-role:";
+
+    private static final String ACCOUNT_PREFIX = "account:";
+
+    private static final String ALL = "*";
+
+    private final AccountLookupCache accountLookupCache;
+
+    private final ProductRepository productRepository;
+
+    private final ProductPrivilegeMapRepository productPrivilegeMapRepository;
+
+    private final EntityRolePrivilegeMapRepository entityRolePrivilegeMapRepository;
+
+    private final LoadingCache<String, List<String>> productPrivileges;
+
+    private final LoadingCache<String, List<String>> entityRolePrivileges;
+
+    public PrivilegeClaimCache(AccountLookupCache accountLookupCache, ProductRepository productRepository, ProductPrivilegeMapRepository productPrivilegeMapRepository, EntityRolePrivilegeMapRepository entityRolePrivilegeMapRepository, CacheProperties cacheProperties, MeterRegistry meterRegistry)
+    {
+        this.accountLookupCache = accountLookupCache;
+        this.productRepository = productRepository;
+        this.productPrivilegeMapRepository = productPrivilegeMapRepository;
+        this.entityRolePrivilegeMapRepository = entityRolePrivilegeMapRepository;
+
+        this.productPrivileges = build(cacheProperties.getClaimProduct(), this::loadProductPrivileges);
+        this.entityRolePrivileges = build(cacheProperties.getClaimEntityRole(), this::loadEntityRolePrivileges);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, productPrivileges, "claim.product");
+        CaffeineCacheMetrics.monitor(meterRegistry, entityRolePrivileges, "claim.entityRole");
+    }
+
+    /**
+     * Returns the claim relevant part of the account registered with the given email.
+     *
+     * @param email the email of the account
+     * @return the account claim data
+     * @throws java.util.NoSuchElementException if no account is registered with the given email
+     */
+    public AccountClaimData getAccountClaims(String email)
+    {
+        final AccountSnapshot account = accountLookupCache.get(email);
+        if (account == null)
+        {
+            throw new NoSuchElementException();
+        }
+        return AccountClaimData.builder()
+            .userId(account.getId())
+            .entityId(account.getEntityId())
+            .entityRoleId(account.getEntityRoleId())
+            .username(account.getUsername())
+            .build();
+    }
+
+    /**
+     * Returns the privileges mapped to the given product. The list is empty when the product's own
+     * privilege is not part of its privilege mapping, exactly as the token builder expects it.
+     *
+     * @param appName the name of the product
+     * @return an immutable list of privilege names
+     */
+    public List<String> getProductPrivileges(String appName)
+    {
+        return productPrivileges.get(appName);
+    }
+
+    /**
+     * Returns the privileges granted to the given entity role.
+     *
+     * @param entityRoleId the entity role map id of the account
+     * @return an immutable list of privilege names
+     */
+    public List<String> getEntityRolePrivileges(String entityRoleId)
+    {
+        return entityRolePrivileges.get(entityRoleId);
+    }
+
+    /**
+     * Drops the cached account claims of the given email.
+     *
+     * @param email the email of the account
+     */
+    public void evictAccount(String email)
+    {
+        accountLookupCache.evict(email);
+    }
+
+    /**
+     * Drops the cached privileges of the given product.
+     *
+     * @param appName the name of the product
+     */
+    public void evictProduct(String appName)
+    {
+        productPrivileges.invalidate(appName);
+    }
+
+    /**
+     * Drops the cached privileges of the given entity role.
+     *
+     * @param entityRoleId the entity role map id
+     */
+    public void evictEntityRole(String entityRoleId)
+    {
+        entityRolePrivileges.invalidate(entityRoleId);
+    }
+
+    /**
+     * Drops every cached entry.
+     */
+    public void evictAll()
+    {
+        accountLookupCache.evictAll();
+        productPrivileges.invalidateAll();
+        entityRolePrivileges.invalidateAll();
+    }
+
+    /**
+     * Handles an invalidation message published on the privilege mapping channel.
+     *
+     * @param message the message whose body names the changed mapping
+     * @param pattern the pattern that matched the channel, unused
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern)
+    {
+        final String body = new String(message.getBody(), StandardCharsets.UTF_8).trim();
+
+        if (body.startsWith(PRODUCT_PREFIX))
+        {
+            evictProduct(body.substring(PRODUCT_PREFIX.length()));
+        }
+        else if (body.startsWith(ENTITY_ROLE_PREFIX))
+        {
+            evictEntityRole(body.substring(ENTITY_ROLE_PREFIX.length()));
+        }
+        else if (body.startsWith(ACCOUNT_PREFIX))
+        {
+            evictAccount(body.substring(ACCOUNT_PREFIX.length()));
+        }
+        else if (ALL.equals(body))
+        {
+            evictAll();
+        }
+    }
+
+    /**
+     * Returns the message evicting the cached account of the given email, for callers publishing evictions.
+     *
+     * @param email the email of the account
+     * @return the message body to publish on {@link com.zentois.authbeast.enums.redis.RedisChannel#PRIVILEGE_MAPPING_CHANGED}
+     */
+    static String accountEviction(String email)
+    {
+        return ACCOUNT_PREFIX + email;
+    }
+
+    private List<String> loadProductPrivileges(String appName)
+    {
+        final List<String> privileges = productPrivilegeMapRepository.getPrivilegeBasedOnProduct(appName);
+        return privileges.contains(productRepository.findByName(appName).getPrivilege().getName()) ? List.copyOf(privileges) : List.of();
+    }
+
+    private List<String> loadEntityRolePrivileges(String entityRoleId)
+    {
+        return List.copyOf(entityRolePrivilegeMapRepository.getPrivilegeNamesByEntityRoleMapId(entityRoleId, false));
+    }
+
+    private static <V> LoadingCache<String, V> build(CacheProperties.Bounded bounds, CacheLoader<String, V> loader)
+    {
+        return Caffeine.newBuilder()
+            .maximumSize(bounds.getMaximumSize())
+            .expireAfterWrite(Duration.ofSeconds(bounds.getTtlSeconds()))
+            .recordStats()
+            .build(loader);
+    }
+}
\ No newline at end of file
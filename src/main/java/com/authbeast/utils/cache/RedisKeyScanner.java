@@ -0,0 +1,96 @@
+package com.zentois.authbeast.utils.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Walks the Redis key space with {@code SCAN} and hands the keys over in batches, on a standalone Redis as well as
+ * on a Redis Cluster.
+ *
+ * A {@code SCAN} only covers the node it is sent to, so on a cluster every primary is scanned in turn.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisKeyScanner
+{
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * Scans the keys matching the given options and passes them on in batches of at most the given size.
+     *
+     * @param options the {@code SCAN} options, the count is a hint to Redis only
+     * @param batchSize the maximum number of keys per batch
+     * @param batchHandler handles a batch, returning {@code false} to stop the scan
+     * @return {@code true} if every key was scanned; {@code false} if the handler stopped the scan
+     */
+    public boolean scan(ScanOptions options, int batchSize, Predicate<List<String>> batchHandler)
+    {
+        final List<String> batch = new ArrayList<>(batchSize);
+        try (RedisConnection connection = getConnectionFactory().getConnection())
+        {
+            if (connection instanceof RedisClusterConnection clusterConnection)
+            {
+                for (RedisClusterNode node : clusterConnection.clusterGetNodes())
+                {
+                    if (node.isMaster() && !scan(clusterConnection.scan(node, options), batch, batchSize, batchHandler))
+                    {
+                        return false;
+                    }
+                }
+            }
+            else if (!scan(connection.keyCommands().scan(options), batch, batchSize, batchHandler))
+            {
+                return false;
+            }
+        }
+        return batch.isEmpty() || batchHandler.test(batch);
+    }
+
+    private static boolean scan(Cursor<byte[]> cursor, List<String> batch, int batchSize, Predicate<List<String>> batchHandler)
+    {
+        try (cursor)
+        {
+            while (cursor.hasNext())
+            {
+                batch.add(new String(cursor.next(), StandardCharsets.UTF_8));
+                if (batch.size() >= batchSize)
+                {
+                    final boolean proceed = batchHandler.test(batch);
+                    batch.clear();
+                    if (!proceed)
+                    {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private RedisConnectionFactory getConnectionFactory()
+    {
+        final RedisConnectionFactory connectionFactory = redisTemplate.getConnectionFactory();
+        if (connectionFactory == null)
+        {
+            throw new IllegalStateException("RedisTemplate has no connection factory");
+        }
+        return connectionFactory;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.zentois.authbeast.utils.cache;
+
+/**
+ * Utility class building the names of the Redis keys the SSO server writes outside of Spring Session.
+ *
+ * Every key lives in the {@value #NAMESPACE} namespace, so the keys of the SSO server can be scanned, audited and
+ * purged without touching Spring Session data or the data of other applications sharing the Redis instance.
+ *
+ * The part of a key that decides its cluster slot is wrapped in a hash tag ({@code {...}}), so the keys a flow
+ * touches together live on the same node of a Redis Cluster: the SSO token data and its pending OTP share the
+ * tag of the SSO token, and the accounts of a browser session and their applications share the tag of the browser
+ * session. The email outbox and its dead letters share a fixed tag, so a message can be moved between them atomically.
+ *
+ * @author Ashwani Singh
+ * @version 1.5
+ * @since 2026-Oct-17
+ */
+public class RedisKeyUtil
+{
+    /**
+     * The prefix of every key written by the SSO server.
+     */
+    public static final String NAMESPACE = "authbeast:";
+
+    private static final String SSO_TOKEN = NAMESPACE + "sso:";
+
+    private static final String OTP = NAMESPACE + "otp:";
+
+    private static final String USER_APPS = NAMESPACE + "apps:";
+
+    private static final String USER_SESSIONS = NAMESPACE + "user-sessions:";
+
+    private static final String SESSION_ACCOUNTS = NAMESPACE + "session-accounts:";
+
+    private static final String FAILED_LOGINS = NAMESPACE + "failed-logins:";
+
+    private static final String REVOKED_TOKEN_FAMILY = NAMESPACE + "revoked-family:";
+
+    private static final String EMAIL_OUTBOX = NAMESPACE + "email-outbox:";
+
+    private static final String EMAIL_OUTBOX_TAG = "outbox";
+
+    private RedisKeyUtil()
+    {
+    }
+
+    /**
+     * Returns the key of the intermediate SSO token data.
+     *
+     * @param ssoToken the SSO token
+     * @return the Redis key
+     */
+    public static String ssoToken(String ssoToken)
+    {
+        return SSO_TOKEN + hashTag(ssoToken);
+    }
+
+    /**
+     * Returns the key of the pending OTP of an intermediate SSO token.
+     *
+     * @param ssoToken the SSO token
+     * @return the Redis key
+     */
+    public static String otp(String ssoToken)
+    {
+        return OTP + hashTag(ssoToken);
+    }
+
+    /**
+     * Returns the key of the set of applications an account is signed in to within a browser session.
+     *
+     * @param browserSessionId the browser session ID
+     * @param sessionId the session ID of the account
+     * @return the Redis key
+     */
+    public static String userApps(String browserSessionId, String sessionId)
+    {
+        return USER_APPS + hashTag(browserSessionId) + ":" + sessionId;
+    }
+
+    /**
+     * Returns the key of the set indexing the sessions an account is signed in to, across every browser.
+     *
+     * @param emailDigest the digest of the normalized email of the account
+     * @return the Redis key
+     */
+    public static String userSessions(String emailDigest)
+    {
+        return USER_SESSIONS + hashTag(emailDigest);
+    }
+
+    /**
+     * Returns the key of the set of the session IDs of the accounts signed in within a browser session.
+     *
+     * @param browserSessionId the browser session ID
+     * @return the Redis key
+     */
+    public static String sessionAccounts(String browserSessionId)
+    {
+        return SESSION_ACCOUNTS + hashTag(browserSessionId);
+    }
+
+    /**
+     * Returns the key of the counter of failed logins of an account.
+     *
+     * @param emailDigest the digest of the normalized email of the account
+     * @return the Redis key
+     */
+    public static String failedLogins(String emailDigest)
+    {
+        return FAILED_LOGINS + hashTag(emailDigest);
+    }
+
+    /**
+     * Returns the key marking the refresh token family of an account session as revoked.
+     *
+     * @param sessionId the session ID of the account, which is also the family of its refresh tokens
+     * @return the Redis key
+     */
+    public static String revokedTokenFamily(String sessionId)
+    {
+        return REVOKED_TOKEN_FAMILY + hashTag(sessionId);
+    }
+
+    /**
+     * Returns the key of the sorted set of emails waiting to be sent, scored by the time they are due.
+     *
+     * @return the Redis key
+     */
+    public static String emailOutbox()
+    {
+        return EMAIL_OUTBOX + hashTag(EMAIL_OUTBOX_TAG);
+    }
+
+    /**
+     * Returns the key of the list of emails that could not be sent within the allowed attempts.
+     *
+     * @return the Redis key
+     */
+    public static String emailDeadLetters()
+    {
+        return EMAIL_OUTBOX + hashTag(EMAIL_OUTBOX_TAG) + ":dead";
+    }
+
+    /**
+     * Returns the {@code SCAN} pattern matching every key of the namespace.
+     *
+     * @return the match pattern
+     */
+    public static String namespacePattern()
+    {
+        return NAMESPACE + "*";
+    }
+
+    /**
+     * Wraps the given value in a hash tag, so only the value decides the cluster slot of the key.
+     */
+    private static String hashTag(String value)
+    {
+        return "{" + value + "}";
+    }
+}
\ No newline at end of file
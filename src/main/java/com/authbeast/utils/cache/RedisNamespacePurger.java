@@ -0,0 +1,118 @@
+package com.zentois.authbeast.utils.cache;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+import com.zentois.authbeast.config.RedisKeyProperties;
+import com.zentois.authbeast.dto.cache.PurgeReport;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes every key matching a pattern without blocking Redis.
+ *
+ * The keys are walked with {@code SCAN} in batches, on every primary of a cluster, and deleted with {@code UNLINK},
+ * which frees their memory in a background thread of Redis. The purge is throttled to {@code redis-key.purge.max-keys-per-second}, so live sign-ins
+ * never queue behind it, and its progress is logged every {@value #PROGRESS_EVERY_BATCHES} batches.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisNamespacePurger
+{
+    private static final int PROGRESS_EVERY_BATCHES = 10;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final RedisKeyProperties redisKeyProperties;
+
+    private final RedisKeyScanner redisKeyScanner;
+
+    /**
+     * Deletes every key of the SSO server namespace.
+     *
+     * @return the report of the purge
+     */
+    public PurgeReport purgeNamespace()
+    {
+        return purge(RedisKeyUtil.namespacePattern());
+    }
+
+    /**
+     * Deletes every key matching the given pattern. The calling thread is blocked until the purge ends or is
+     * interrupted, Redis is not.
+     *
+     * @param pattern the {@code SCAN} match pattern
+     * @return the report of the purge
+     */
+    public PurgeReport purge(String pattern)
+    {
+        final RedisKeyProperties.Purge settings = redisKeyProperties.getPurge();
+        final long startedAt = System.currentTimeMillis();
+        final AtomicLong scanned = new AtomicLong();
+        final AtomicLong unlinked = new AtomicLong();
+        final AtomicLong batches = new AtomicLong();
+
+        log.info("Purging Redis keys matching {}", pattern);
+        final boolean completed = redisKeyScanner.scan(ScanOptions.scanOptions().match(pattern).count(settings.getBatchSize()).build(), settings.getBatchSize(), batch ->
+        {
+            scanned.addAndGet(batch.size());
+            unlinked.addAndGet(unlink(batch));
+            if (batches.incrementAndGet() % PROGRESS_EVERY_BATCHES == 0)
+            {
+                log.info("Purging Redis keys matching {}: {} keys unlinked so far", pattern, unlinked.get());
+            }
+            return throttle(unlinked.get(), startedAt, settings.getMaxKeysPerSecond());
+        });
+
+        final PurgeReport report = PurgeReport.builder()
+            .pattern(pattern)
+            .scanned(scanned.get())
+            .unlinked(unlinked.get())
+            .durationMillis(System.currentTimeMillis() - startedAt)
+            .completed(completed)
+            .build();
+        log.info("Purge of Redis keys matching {} {}: {} keys scanned, {} unlinked in {} ms", pattern, completed ? "completed" : "interrupted", report.getScanned(), report.getUnlinked(), report.getDurationMillis());
+        return report;
+    }
+
+    private long unlink(List<String> keys)
+    {
+        final Long removed = redisTemplate.unlink(keys);
+        return removed == null ? 0 : removed;
+    }
+
+    /**
+     * Sleeps until the purge is back under the allowed rate.
+     *
+     * @return {@code false} if the purge was interrupted
+     */
+    private static boolean throttle(long unlinked, long startedAt, long maxKeysPerSecond)
+    {
+        final long aheadMillis = unlinked * 1000 / maxKeysPerSecond - (System.currentTimeMillis() - startedAt);
+        if (aheadMillis <= 0)
+        {
+            return true;
+        }
+
+        try
+        {
+            Thread.sleep(aheadMillis);
+            return true;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,157 @@
+package com.zentois.authbeast.utils.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Function;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zentois.authbeast.config.CacheProperties;
+import com.zentois.authbeast.enums.redis.RedisChannel;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Optional in-process near cache of raw Redis values, keyed by the Redis key.
+ *
+ * Values read many times per second, like an SSO token during its code exchange or the logged in applications of a
+ * session, are kept for a few seconds on every node, so a repeat read costs a map lookup instead of a network round
+ * trip. Only raw, immutable values are cached, every caller parses its own copy, and misses are never cached.
+ *
+ * A write or delete through the owning component drops the key locally and publishes it on
+ * {@link RedisChannel#NEAR_CACHE_INVALIDATED}, so every other node drops its copy too. A read racing with a write on
+ * another node can still keep the old value until the short TTL runs out, so data that must be exact, such as the
+ * versioned session data or token existence checks, is not read through this cache.
+ *
+ * Hit, miss and eviction counts are exported as {@code cache.*} meters tagged with {@code redis.near}, invalidations
+ * as {@code cache.near.invalidations} tagged with their origin. When {@code cache.near.enabled} is false every read
+ * goes to Redis.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Component
+public class RedisNearCache implements MessageListener
+{
+    private static final String ALL = "*";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final boolean enabled;
+
+    private final Cache<String, Object> values;
+
+    private final Counter localInvalidations;
+
+    private final Counter remoteInvalidations;
+
+    public RedisNearCache(RedisTemplate<String, String> redisTemplate, CacheProperties cacheProperties, MeterRegistry meterRegistry)
+    {
+        this.redisTemplate = redisTemplate;
+
+        final CacheProperties.Near near = cacheProperties.getNear();
+        this.enabled = near.isEnabled();
+        this.values = Caffeine.newBuilder()
+            .maximumSize(near.getMaximumSize())
+            .expireAfterWrite(Duration.ofSeconds(near.getTtlSeconds()))
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, values, "redis.near");
+        this.localInvalidations = meterRegistry.counter("cache.near.invalidations", "origin", "local");
+        this.remoteInvalidations = meterRegistry.counter("cache.near.invalidations", "origin", "remote");
+    }
+
+    /**
+     * Returns the value of the given Redis key, loading it from Redis on a miss.
+     *
+     * @param key the Redis key
+     * @param type the type of the raw value
+     * @param loader reads the value from Redis, returning null if the key does not exist
+     * @return the value, or null if the key does not exist
+     */
+    public <T> T get(String key, Class<T> type, Function<String, T> loader)
+    {
+        if (!enabled)
+        {
+            return loader.apply(key);
+        }
+
+        final Object cached = values.getIfPresent(key);
+        if (type.isInstance(cached))
+        {
+            return type.cast(cached);
+        }
+
+        final T value = loader.apply(key);
+        if (value != null)
+        {
+            values.put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Drops the given Redis key on this and every other node. Call it after the key was written or deleted.
+     *
+     * @param key the Redis key
+     */
+    public void invalidate(String key)
+    {
+        if (!enabled)
+        {
+            return;
+        }
+        values.invalidate(key);
+        localInvalidations.increment();
+        redisTemplate.convertAndSend(RedisChannel.NEAR_CACHE_INVALIDATED.getChannel(), key);
+    }
+
+    /**
+     * Drops every key on this and every other node.
+     */
+    public void invalidateAll()
+    {
+        if (!enabled)
+        {
+            return;
+        }
+        values.invalidateAll();
+        localInvalidations.increment();
+        redisTemplate.convertAndSend(RedisChannel.NEAR_CACHE_INVALIDATED.getChannel(), ALL);
+    }
+
+    /**
+     * Handles an invalidation message published by this or another node.
+     *
+     * @param message the message whose body is the invalidated Redis key
+     * @param pattern the pattern that matched the channel, unused
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern)
+    {
+        if (!enabled)
+        {
+            return;
+        }
+
+        final String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (ALL.equals(key))
+        {
+            values.invalidateAll();
+        }
+        else
+        {
+            values.invalidate(key);
+        }
+        remoteInvalidations.increment();
+    }
+}
\ No newline at end of file
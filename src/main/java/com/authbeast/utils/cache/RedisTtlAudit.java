@@ -0,0 +1,139 @@
+package com.zentois.authbeast.utils.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.zentois.authbeast.config.RedisKeyProperties;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background audit that reports Redis keys living without a TTL.
+ *
+ * Every key the SSO server writes outside of Spring Session carries a TTL from {@link RedisKeyProperties}, so a
+ * key without one is either a leftover of an older release or a write path that bypasses the TTL policy. The
+ * audit walks the key space of every primary with the {@link RedisKeyScanner}, never {@code KEYS}, and reads the
+ * TTLs of each batch in a single pipeline. The result of the last run is exported as the {@code redis.keys.without.ttl} gauge.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@Slf4j
+@Component
+public class RedisTtlAudit
+{
+    private static final long NO_TTL = -1;
+
+    private static final int SAMPLE_SIZE = 10;
+
+    private static final int SAMPLE_KEY_LENGTH = 8;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final RedisKeyProperties redisKeyProperties;
+
+    private final RedisKeyScanner redisKeyScanner;
+
+    private final AtomicLong keysWithoutTtl = new AtomicLong();
+
+    public RedisTtlAudit(RedisTemplate<String, String> redisTemplate, RedisKeyProperties redisKeyProperties, RedisKeyScanner redisKeyScanner, MeterRegistry meterRegistry)
+    {
+        this.redisTemplate = redisTemplate;
+        this.redisKeyProperties = redisKeyProperties;
+        this.redisKeyScanner = redisKeyScanner;
+
+        Gauge.builder("redis.keys.without.ttl", keysWithoutTtl, AtomicLong::get)
+            .description("Redis keys without a TTL found by the last audit run")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Scans the whole key space and reports the keys without a TTL.
+     */
+    @Scheduled(initialDelayString = "${redis-key.audit.interval}", fixedDelayString = "${redis-key.audit.interval}")
+    public void audit()
+    {
+        final RedisKeyProperties.Audit settings = redisKeyProperties.getAudit();
+        if (!settings.isEnabled())
+        {
+            return;
+        }
+
+        final AtomicLong scanned = new AtomicLong();
+        final AtomicLong withoutTtlCount = new AtomicLong();
+        final List<String> sample = new ArrayList<>();
+
+        redisKeyScanner.scan(ScanOptions.scanOptions().count(settings.getScanCount()).build(), settings.getScanCount(), batch ->
+        {
+            final List<String> keys = batch.stream().filter(key -> !key.startsWith(settings.getExcludedPrefix())).toList();
+            if (!keys.isEmpty())
+            {
+                scanned.addAndGet(keys.size());
+                withoutTtlCount.addAndGet(countWithoutTtl(keys, sample));
+            }
+            return true;
+        });
+
+        final long withoutTtl = withoutTtlCount.get();
+        keysWithoutTtl.set(withoutTtl);
+        if (withoutTtl > 0)
+        {
+            log.warn("Redis TTL audit found {} of {} scanned keys without a TTL, e.g. {}", withoutTtl, scanned.get(), sample);
+        }
+        else
+        {
+            log.info("Redis TTL audit scanned {} keys, all of them have a TTL", scanned.get());
+        }
+    }
+
+    private long countWithoutTtl(List<String> keys, List<String> sample)
+    {
+        final List<Object> ttls = redisTemplate.executePipelined((RedisCallback<Object>) connection ->
+        {
+            ttl(connection, keys);
+            return null;
+        });
+
+        long withoutTtl = 0;
+        for (int i = 0; i < ttls.size(); i++)
+        {
+            if (ttls.get(i) instanceof Long ttl && ttl == NO_TTL)
+            {
+                withoutTtl++;
+                if (sample.size() < SAMPLE_SIZE)
+                {
+                    sample.add(mask(keys.get(i)));
+                }
+            }
+        }
+        return withoutTtl;
+    }
+
+    private static void ttl(RedisConnection connection, List<String> keys)
+    {
+        for (String key : keys)
+        {
+            connection.keyCommands().ttl(key.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * SSO tokens are used as keys, so only the start of a key is ever logged.
+     */
+    private static String mask(String key)
+    {
+        return key.length() <= SAMPLE_KEY_LENGTH ? key : key.substring(0, SAMPLE_KEY_LENGTH) + "...";
+    }
+}
\ No newline at end of file
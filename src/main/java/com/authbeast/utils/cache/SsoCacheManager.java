@@ -1,17 +1,12 @@
 package com.zentois.authbeast.utils.cache;
 
-import org.springframework.data.redis.connection.RedisConnection;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.zentois.authbeast.dto.cache.PurgeReport;
 import com.zentois.authbeast.dto.session_data.UserAccount;
 import com.zentois.authbeast.dto.token.SsoTokenData;
-import com.zentois.authbeast.enums.allowed_origin.AllowedOriginMeta;
-import com.zentois.authbeast.model.SessionDataDTO;
-import com.zentois.util.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -19,15 +14,18 @@ import lombok.RequiredArgsConstructor;
  * The `SsoCacheManager` class is a Spring-managed component that provides caching functionality for SSO (Single Sign-On) token data.
  * It uses Redis to store and retrieve SSO token data (ssoToken is helping in generatin access token), and provides methods to manage the cache.
  * 
+ * Every call is delegated to the {@link SsoTokenCacheUtil}, the single store of intermediate SSO tokens, so tokens
+ * written through this class get the same TTL as all others.
+ * 
  * @author Ashwani Singh
- * @version 1.0
+ * @version 1.1
  * @since 2024-Oct-04
  */
 @RequiredArgsConstructor
 @Component
 public class SsoCacheManager
 {    
-    private final RedisTemplate<String, String> redisTemplate;
+    private final SsoTokenCacheUtil ssoTokenCacheUtil;
     
     /**
      * Retrieves the SSO token data from the cache based on the provided SSO token.
@@ -39,7 +37,7 @@ public class SsoCacheManager
      */
     public SsoTokenData getTokenData(String ssoToken) throws JsonMappingException, JsonProcessingException
     {
-        return ObjectMapper.GENERIC_MAPPER.readValue(redisTemplate.opsForValue().get(ssoToken), SsoTokenData.class);
+        return ssoTokenCacheUtil.getTokenData(ssoToken);
     }
     
     /**
@@ -49,7 +47,7 @@ public class SsoCacheManager
      */
     public void removeToken(String ssoToken)
     {
-        redisTemplate.delete(ssoToken);
+        ssoTokenCacheUtil.removeToken(ssoToken);
     }
     
     /**
@@ -60,23 +58,17 @@ public class SsoCacheManager
      */
     public boolean hasToken(String ssoToken)
     {
-        return redisTemplate.hasKey(ssoToken);
+        return ssoTokenCacheUtil.hasToken(ssoToken);
     }
     
     /**
-     * Clears the entire Redis cache.
+     * Clears the Redis cache of the SSO server without blocking Redis, see {@link SsoTokenCacheUtil#clearCache()}.
      *
-     * This method flushes the entire database in Redis, effectively removing all keys and their associated data.
-     * Use with caution as this operation cannot be undone and will delete all cached data.
+     * @return the report of the purge
      */
-    public void clearCache()
+    public PurgeReport clearCache()
     {
-        final RedisConnectionFactory connectionFactory = redisTemplate.getConnectionFactory();
-        if (connectionFactory != null)
-        {
-            final RedisConnection connection = connectionFactory.getConnection();
-            connection.serverCommands().flushAll();
-        }
+        return ssoTokenCacheUtil.clearCache();
     }
 
     /**
@@ -95,20 +87,6 @@ public class SsoCacheManager
      */
     public void fillSsoTokenCache(String appName, String sessionId, UserAccount userAccount, String ssoToken, String code_challenge, String browserSessionId) throws JsonProcessingException
     {
-        cacheIntermediateToken(appName, sessionId, userAccount, ssoToken, code_challenge, browserSessionId);
-    }
-
-    private void cacheIntermediateToken(String appName, String sessionId, UserAccount userAccount, String ssoToken, String codeChallenge, String browserSessionId) throws JsonProcessingException
-    {
-        final SsoTokenData tokenData = SsoTokenData.builder()
-                .appName(AllowedOriginMeta.valueOf(appName).getAppName())
-                .origin(AllowedOriginMeta.valueOf(appName).getUrl())
-                .sessionData(SessionDataDTO.builder()
-                        .email(userAccount.getEmail())
-                        .build())
-                .codeChallenge(codeChallenge)
-                .browserSessionId(browserSessionId)
-                .build();
-        redisTemplate.opsForValue().set(ssoToken, ObjectMapper.GENERIC_MAPPER.writeValueAsString(tokenData));
+        ssoTokenCacheUtil.fillSsoTokenCache(appName, sessionId, userAccount.getEmail(), ssoToken, code_challenge, browserSessionId, null);
     }
 }
\ No newline at end of file
@@ -1,22 +1,21 @@
 package com.zentois.authbeast.utils.cache;
 
-import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
-import org.springframework.data.redis.connection.RedisConnection;
-import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.zentois.authbeast.config.RedisKeyProperties;
+import com.zentois.authbeast.dto.cache.PurgeReport;
 import com.zentois.authbeast.dto.otp.OtpData;
 import com.zentois.authbeast.dto.session_data.SessionUserData;
 import com.zentois.authbeast.dto.token.SsoTokenData;
-import com.zentois.authbeast.enums.ErrorDescription;
 import com.zentois.authbeast.enums.allowed_origin.AllowedOriginMeta;
+import com.zentois.authbeast.enums.redis.RedisKeyKind;
 import com.zentois.authbeast.model.SessionDataDTO;
-import com.zentois.util.ObjectMapper;
+import com.zentois.authbeast.utils.codec.CacheValueCodec;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,8 +23,13 @@ import lombok.RequiredArgsConstructor;
  * The `SsoCacheManager` class is a Spring-managed component that provides caching functionality for SSO (Single Sign-On) token data.
  * It uses Redis to store and retrieve SSO token data (ssoToken is helping in generatin access token), and provides methods to manage the cache.
  * 
+ * This is the single store of intermediate SSO tokens. Tokens are written with an atomic {@code SET ... EX}, using
+ * the TTL of {@link RedisKeyKind#SSO_TOKEN} for the code exchange and of {@link RedisKeyKind#OTP_SSO_TOKEN} for the
+ * OTP flows, so a token key never exists without an expiry. Token data reads go through
+ * the optional {@link RedisNearCache}. Token data is encoded by the {@link CacheValueCodec}, in JSON or in the compact format.
+ * 
  * @author Ashwani Singh
- * @version 1.0
+ * @version 1.3
  * @since 2024-Oct-04
  */
 @RequiredArgsConstructor
@@ -33,6 +37,18 @@ import lombok.RequiredArgsConstructor;
 public class SsoTokenCacheUtil
 {    
     private final RedisTemplate<String, String> redisTemplate;
+
+    private final RedisKeyProperties redisKeyProperties;
+
+    private final RedisNearCache redisNearCache;
+
+    private final RedisNamespacePurger redisNamespacePurger;
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    private final CacheValueCodec cacheValueCodec;
+
+    private final HashFieldCasUpdater hashFieldCasUpdater;
     
     /**
      * Retrieves the SSO token data from the cache based on the provided SSO token.
@@ -44,12 +60,8 @@ public class SsoTokenCacheUtil
      */
     public SsoTokenData getTokenData(String ssoToken) throws JsonMappingException, JsonProcessingException
     {
-        final String tokenDataString = redisTemplate.opsForValue().get(ssoToken);
-        if (tokenDataString != null)
-        {
-            return ObjectMapper.GENERIC_MAPPER.readValue(tokenDataString, SsoTokenData.class);
-        }
-        return null;
+        final byte[] tokenDataBytes = redisNearCache.get(RedisKeyUtil.ssoToken(ssoToken), byte[].class, binaryRedisTemplate.opsForValue()::get);
+        return cacheValueCodec.decode(tokenDataBytes, SsoTokenData.class);
     }
     
     /**
@@ -59,7 +71,9 @@ public class SsoTokenCacheUtil
      */
     public void removeToken(String ssoToken)
     {
-        redisTemplate.delete(ssoToken);
+        final String key = RedisKeyUtil.ssoToken(ssoToken);
+        redisTemplate.delete(key);
+        redisNearCache.invalidate(key);
     }
     
     /**
@@ -70,23 +84,22 @@ public class SsoTokenCacheUtil
      */
     public boolean hasToken(String ssoToken)
     {
-        return redisTemplate.hasKey(ssoToken);
+        return redisTemplate.hasKey(RedisKeyUtil.ssoToken(ssoToken));
     }
     
     /**
-     * Clears the entire Redis cache.
+     * Clears the Redis cache of the SSO server.
+     *
+     * Every key of the {@value RedisKeyUtil#NAMESPACE} namespace is removed with a throttled {@code SCAN} and {@code UNLINK},
+     * so Spring Session data and other databases are left alone and Redis keeps serving sign-ins while the purge runs.
      *
-     * This method flushes the entire database in Redis, effectively removing all keys and their associated data.
-     * Use with caution as this operation cannot be undone and will delete all cached data.
+     * @return the report of the purge
      */
-    public void clearCache()
+    public PurgeReport clearCache()
     {
-        final RedisConnectionFactory connectionFactory = redisTemplate.getConnectionFactory();
-        if (connectionFactory != null)
-        {
-            final RedisConnection connection = connectionFactory.getConnection();
-            connection.serverCommands().flushAll();
-        }
+        final PurgeReport report = redisNamespacePurger.purgeNamespace();
+        redisNearCache.invalidateAll();
+        return report;
     }
 
     /**
@@ -131,49 +144,38 @@ public class SsoTokenCacheUtil
                 .browserSessionId(browserSessionId)
                 .otpData(otpData)
                 .build();
-        redisTemplate.opsForValue().set(ssoToken, ObjectMapper.GENERIC_MAPPER.writeValueAsString(tokenData));
-        redisTemplate.expire(ssoToken, 1, TimeUnit.MINUTES);
+        final String key = RedisKeyUtil.ssoToken(ssoToken);
+        final RedisKeyKind kind = otpData == null ? RedisKeyKind.SSO_TOKEN : RedisKeyKind.OTP_SSO_TOKEN;
+        binaryRedisTemplate.opsForValue().set(key, cacheValueCodec.encode(tokenData), redisKeyProperties.getTtl(kind));
+        redisNearCache.invalidate(key);
     }
 
-     /**
+    /**
      * Updates the user session data in Redis using the provided session key and user data key.
-     * The update logic is defined by the provided BiConsumer.
+     * The update logic is defined by the provided Consumer.
+     *
+     * The whole {@link SessionUserData} is rewritten by the {@link HashFieldCasUpdater}, so concurrent sign-ins in the same
+     * browser can not overwrite each other. The update logic may run more than once.
      *
      * @param sessionKey The key of the session data in Redis.
      * @param userDataKey The key of the user data within the session data.
-     * @param updateLogic A BiConsumer that defines the update logic to be applied to the user session data.
-     *                     The first parameter is the ObjectNode representing the "users" section of the user session data.
-     *                     The second parameter is the ObjectNode representing the root of the user session data.
+     * @param updateLogic A Consumer that defines the update logic to be applied to the user session data.
      * @throws JsonProcessingException 
      * @throws JsonMappingException 
      *
-     * @throws RuntimeException If an error occurs while processing the session data.
+     * @throws RuntimeException If an error occurs while processing the session data or every attempt lost to a concurrent update.
      */
-    @SuppressWarnings("null")
     public void updateUserSessionData(String sessionKey, String userDataKey, Consumer<SessionUserData> updateLogic) throws JsonMappingException, JsonProcessingException
     {
-        final String sessionData = (String)redisTemplate.opsForHash().entries(sessionKey).get(userDataKey);
-
-        final SessionUserData sessionDataObj = ObjectMapper.GENERIC_MAPPER.readValue(sessionData, SessionUserData.class);
-        
-        if (sessionDataObj != null || sessionDataObj.getUsers() != null)
+        hashFieldCasUpdater.update(sessionKey, userDataKey, SessionUserData.class, sessionData ->
         {
-            try
-            {                
-                if (sessionDataObj.getUsers() != null)
-                {
-                    // Execute the specific update logic
-                    updateLogic.accept(sessionDataObj);
-                    
-                    // Save updated data back to Redis
-                    final String updatedJson = ObjectMapper.GENERIC_MAPPER.writeValueAsString(sessionDataObj);
-                    redisTemplate.opsForHash().put(sessionKey, userDataKey, updatedJson);
-                }
-            }
-            catch (Exception e)
+            if (sessionData.getUsers() == null)
             {
-                throw new RuntimeException(ErrorDescription.ERROR_PROCESSING_FAILURE.getMessage(), e);
+                return false;
             }
-        }
+            // Execute the specific update logic
+            updateLogic.accept(sessionData);
+            return true;
+        });
     }
 }
\ No newline at end of file
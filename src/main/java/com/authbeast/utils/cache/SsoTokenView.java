@@ -0,0 +1,80 @@
+package com.zentois.authbeast.utils.cache;
+
+import com.zentois.authbeast.dto.otp.OtpData;
+import com.zentois.authbeast.dto.token.SsoTokenData;
+
+/**
+ * The parsed {@link SsoTokenData} of an intermediate SSO token, with typed accessors for the parts the OTP flow reads.
+ *
+ * A view is loaded once per SSO token and request by the {@link SsoTokenViewResolver}. A view of a token that is
+ * not (or no longer) in Redis is empty, and all its accessors return null or 0.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+public class SsoTokenView
+{
+    private final SsoTokenData tokenData;
+
+    /**
+     * Creates a view of the given token data.
+     *
+     * @param tokenData The parsed token data, or null if the SSO token does not exist.
+     */
+    public SsoTokenView(SsoTokenData tokenData)
+    {
+        this.tokenData = tokenData;
+    }
+
+    /**
+     * Checks if the SSO token exists in Redis.
+     *
+     * @return {@code true} if the SSO token exists; {@code false} otherwise.
+     */
+    public boolean isPresent()
+    {
+        return tokenData != null;
+    }
+
+    /**
+     * Returns the parsed token data.
+     *
+     * @return The token data, or null if the SSO token does not exist.
+     */
+    public SsoTokenData getTokenData()
+    {
+        return tokenData;
+    }
+
+    /**
+     * Returns the email of the account the SSO token was issued for.
+     *
+     * @return The email, or null if the SSO token does not exist.
+     */
+    public String getEmail()
+    {
+        return tokenData == null || tokenData.getSessionData() == null ? null : tokenData.getSessionData().getEmail();
+    }
+
+    /**
+     * Returns the pending OTP of the SSO token.
+     *
+     * @return The OTP data, or null if no OTP is pending.
+     */
+    public OtpData getOtpData()
+    {
+        return tokenData == null ? null : tokenData.getOtpData();
+    }
+
+    /**
+     * Returns the expiry time of the pending OTP.
+     *
+     * @return The expiry time in milliseconds since epoch, or 0 if no OTP is pending.
+     */
+    public long getOtpExpiryTime()
+    {
+        final OtpData otpData = getOtpData();
+        return otpData == null ? 0 : otpData.getExpiryTime();
+    }
+}
\ No newline at end of file
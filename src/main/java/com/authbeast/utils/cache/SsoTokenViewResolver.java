@@ -0,0 +1,103 @@
+package com.zentois.authbeast.utils.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.zentois.authbeast.dto.token.SsoTokenData;
+import com.zentois.authbeast.utils.codec.CacheValueCodec;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Resolves an intermediate SSO token to its {@link SsoTokenView}, reading and parsing each token at most once per request.
+ *
+ * Rendering or validating the OTP page reads the email, the OTP and its expiry of the same SSO token. The views of the
+ * current request are memoized in a request attribute, so these reads cost a single {@code GET} and a single
+ * {@link CacheValueCodec} decode. The number of {@code GET}s each request issued is recorded in the {@code sso.token.redis.gets} summary.
+ * Outside of a request every call reads from Redis.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Component
+public class SsoTokenViewResolver
+{
+    private static final String REQUEST_ATTRIBUTE = SsoTokenViewResolver.class.getName() + ".views";
+
+    private final RedisTemplate<String, byte[]> binaryRedisTemplate;
+
+    private final CacheValueCodec cacheValueCodec;
+
+    private final DistributionSummary getsPerRequest;
+
+    public SsoTokenViewResolver(RedisTemplate<String, byte[]> binaryRedisTemplate, CacheValueCodec cacheValueCodec, MeterRegistry meterRegistry)
+    {
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.cacheValueCodec = cacheValueCodec;
+        this.getsPerRequest = DistributionSummary.builder("sso.token.redis.gets")
+            .description("Redis GETs of intermediate SSO tokens per request")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Returns the view of the given SSO token.
+     *
+     * @param ssoToken The intermediate SSO token.
+     * @return The view of the token data, empty if the token does not exist.
+     * @throws JsonMappingException If the cached data can not be mapped to {@link SsoTokenData}.
+     * @throws JsonProcessingException If the cached data can not be parsed.
+     */
+    public SsoTokenView resolve(String ssoToken) throws JsonMappingException, JsonProcessingException
+    {
+        final Map<String, SsoTokenView> views = getRequestViews();
+        if (views == null)
+        {
+            getsPerRequest.record(1);
+            return load(ssoToken);
+        }
+
+        SsoTokenView view = views.get(ssoToken);
+        if (view == null)
+        {
+            view = load(ssoToken);
+            views.put(ssoToken, view);
+        }
+        return view;
+    }
+
+    private SsoTokenView load(String ssoToken) throws JsonMappingException, JsonProcessingException
+    {
+        final byte[] tokenDataBytes = binaryRedisTemplate.opsForValue().get(RedisKeyUtil.ssoToken(ssoToken));
+        return new SsoTokenView(cacheValueCodec.decode(tokenDataBytes, SsoTokenData.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, SsoTokenView> getRequestViews()
+    {
+        final RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null)
+        {
+            return null;
+        }
+
+        Map<String, SsoTokenView> views = (Map<String, SsoTokenView>) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (views == null)
+        {
+            final Map<String, SsoTokenView> requestViews = new HashMap<>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, requestViews, RequestAttributes.SCOPE_REQUEST);
+            // every memoized view cost exactly one GET, so the map size is the number of GETs of the request
+            attributes.registerDestructionCallback(REQUEST_ATTRIBUTE, () -> getsPerRequest.record(requestViews.size()), RequestAttributes.SCOPE_REQUEST);
+            views = requestViews;
+        }
+        return views;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,281 @@
+package com.zentois.authbeast.utils.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.zentois.authbeast.config.CacheProperties;
+import com.zentois.authbeast.enums.redis.RedisChannel;
+import com.zentois.authbeast.security.jwe.TokenView;
+import com.zentois.authbeast.utils.hash.HashingUtil;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * In-process cache of decrypted, unexpired tokens, keyed by the SHA-256 digest of the compact token.
+ *
+ * The same refresh token is presented many times in a short window (several tabs, retries, mobile apps waking
+ * up), and each presentation used to cost a full JWE decryption. A cached entry never outlives the {@code exp}
+ * of its token nor the configured TTL, and the raw token is never kept as a key.
+ *
+ * Entries are indexed by session ID and browser session ID so a signout drops them at once. Revocations are
+ * published on {@link RedisChannel#TOKEN_REVOKED} so every instance drops its copy. Revoked sessions are remembered
+ * for the TTL of the cache, so a view put concurrently with a revocation is dropped again instead of surviving it.
+ * Hit, miss and eviction counts are exported as {@code cache.*} meters tagged with {@code token.claims}.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@Component
+public class TokenClaimsCache implements MessageListener
+{
+    private static final String DIGEST_ALGO = "SHA-256";
+
+    private static final String SESSION_PREFIX = "session:";
+
+    private static final String BROWSER_SESSION_PREFIX = "browser-session:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Cache<String, TokenView> views;
+
+    private final Cache<String, Boolean> revocations;
+
+    private final Map<String, Set<String>> digestsBySession = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> digestsByBrowserSession = new ConcurrentHashMap<>();
+
+    public TokenClaimsCache(RedisTemplate<String, String> redisTemplate, CacheProperties cacheProperties, MeterRegistry meterRegistry)
+    {
+        this.redisTemplate = redisTemplate;
+
+        final CacheProperties.Bounded bounds = cacheProperties.getTokenClaims();
+        this.views = Caffeine.newBuilder()
+            .maximumSize(bounds.getMaximumSize())
+            .expireAfter(new TokenExpiry(TimeUnit.SECONDS.toNanos(bounds.getTtlSeconds())))
+            .evictionListener(this::unindex)
+            .recordStats()
+            .build();
+
+        this.revocations = Caffeine.newBuilder()
+            .maximumSize(bounds.getMaximumSize())
+            .expireAfterWrite(Duration.ofSeconds(bounds.getTtlSeconds()))
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, views, "token.claims");
+    }
+
+    /**
+     * Returns the cached view of the given token.
+     *
+     * @param token the compact serialized token
+     * @return the cached view, or null if the token is not cached
+     */
+    public TokenView get(String token)
+    {
+        return views.getIfPresent(digest(token));
+    }
+
+    /**
+     * Caches the view of the given token. Views without an expiry or already expired are not cached, so the
+     * cache only ever answers for tokens that would pass validation.
+     *
+     * @param token the compact serialized token
+     * @param view the decrypted view of the token
+     */
+    public void put(String token, TokenView view)
+    {
+        if (view.getExpiry() == null || view.isExpired())
+        {
+            return;
+        }
+
+        final String digest = digest(token);
+        views.put(digest, view);
+        index(digestsBySession, view.getSessionId(), digest);
+        index(digestsByBrowserSession, view.getBrowserSessionId(), digest);
+
+        // a revocation that ran before the view was indexed could not find it, so it is dropped here
+        if (isRevoked(view))
+        {
+            unindex(digest, views.asMap().remove(digest), RemovalCause.EXPLICIT);
+        }
+    }
+
+    /**
+     * Drops the cached tokens of the given account session on every instance.
+     *
+     * @param sessionId the session ID of the signed out account
+     */
+    public void revokeSession(String sessionId)
+    {
+        evictSession(sessionId);
+        redisTemplate.convertAndSend(RedisChannel.TOKEN_REVOKED.getChannel(), sessionRevocation(sessionId));
+    }
+
+    /**
+     * Drops the cached tokens of every account signed in within the given browser session on every instance.
+     *
+     * @param browserSessionId the browser session ID
+     */
+    public void revokeBrowserSession(String browserSessionId)
+    {
+        evictBrowserSession(browserSessionId);
+        redisTemplate.convertAndSend(RedisChannel.TOKEN_REVOKED.getChannel(), browserSessionRevocation(browserSessionId));
+    }
+
+    /**
+     * Returns the message revoking the tokens of an account session, for callers publishing revocations in a pipeline.
+     *
+     * @param sessionId the session ID of the account
+     * @return the message body to publish on {@link RedisChannel#TOKEN_REVOKED}
+     */
+    static String sessionRevocation(String sessionId)
+    {
+        return SESSION_PREFIX + sessionId;
+    }
+
+    /**
+     * Returns the message revoking the tokens of a browser session, for callers publishing revocations in a pipeline.
+     *
+     * @param browserSessionId the browser session ID
+     * @return the message body to publish on {@link RedisChannel#TOKEN_REVOKED}
+     */
+    static String browserSessionRevocation(String browserSessionId)
+    {
+        return BROWSER_SESSION_PREFIX + browserSessionId;
+    }
+
+    /**
+     * Handles a revocation message published by this or another instance.
+     *
+     * @param message the message whose body names the revoked session
+     * @param pattern the pattern that matched the channel, unused
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern)
+    {
+        final String body = new String(message.getBody(), StandardCharsets.UTF_8).trim();
+
+        if (body.startsWith(SESSION_PREFIX))
+        {
+            evictSession(body.substring(SESSION_PREFIX.length()));
+        }
+        else if (body.startsWith(BROWSER_SESSION_PREFIX))
+        {
+            evictBrowserSession(body.substring(BROWSER_SESSION_PREFIX.length()));
+        }
+    }
+
+    private void evictSession(String sessionId)
+    {
+        revocations.put(sessionRevocation(sessionId), Boolean.TRUE);
+        evict(digestsBySession.remove(sessionId));
+    }
+
+    private void evictBrowserSession(String browserSessionId)
+    {
+        revocations.put(browserSessionRevocation(browserSessionId), Boolean.TRUE);
+        evict(digestsByBrowserSession.remove(browserSessionId));
+    }
+
+    private boolean isRevoked(TokenView view)
+    {
+        return (view.getSessionId() != null && revocations.getIfPresent(sessionRevocation(view.getSessionId())) != null)
+            || (view.getBrowserSessionId() != null && revocations.getIfPresent(browserSessionRevocation(view.getBrowserSessionId())) != null);
+    }
+
+    private void evict(Set<String> digests)
+    {
+        if (digests == null)
+        {
+            return;
+        }
+        for (String digest : digests)
+        {
+            unindex(digest, views.asMap().remove(digest), RemovalCause.EXPLICIT);
+        }
+    }
+
+    private void unindex(String digest, TokenView view, RemovalCause cause)
+    {
+        if (digest == null || view == null)
+        {
+            return;
+        }
+        unindex(digestsBySession, view.getSessionId(), digest);
+        unindex(digestsByBrowserSession, view.getBrowserSessionId(), digest);
+    }
+
+    private static void index(Map<String, Set<String>> index, String id, String digest)
+    {
+        if (id != null)
+        {
+            index.computeIfAbsent(id, key -> ConcurrentHashMap.newKeySet()).add(digest);
+        }
+    }
+
+    private static void unindex(Map<String, Set<String>> index, String id, String digest)
+    {
+        if (id != null)
+        {
+            index.computeIfPresent(id, (key, digests) ->
+            {
+                digests.remove(digest);
+                return digests.isEmpty() ? null : digests;
+            });
+        }
+    }
+
+    private static String digest(String token)
+    {
+        return HashingUtil.hashCodeVerifier(token, DIGEST_ALGO);
+    }
+
+    /**
+     * Expires an entry at the {@code exp} of its token, or after the configured TTL if that comes first.
+     * Reads do not extend the lifetime of an entry.
+     */
+    private static final class TokenExpiry implements Expiry<String, TokenView>
+    {
+        private final long maximumNanos;
+
+        private TokenExpiry(long maximumNanos)
+        {
+            this.maximumNanos = maximumNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String digest, TokenView view, long currentTime)
+        {
+            final long remainingNanos = TimeUnit.MILLISECONDS.toNanos(view.getExpiry().getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(maximumNanos, remainingNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, TokenView view, long currentTime, long currentDuration)
+        {
+            return expireAfterCreate(digest, view, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, TokenView view, long currentTime, long currentDuration)
+        {
+            return currentDuration;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,107 @@
+package com.zentois.authbeast.utils.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.zentois.authbeast.config.RedisKeyProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Debounces the sliding TTL refresh of Redis keys that are touched on every request.
+ *
+ * The policy remembers, per key and node, when it last pushed the expiry of a key out. The TTL is only refreshed again
+ * once less than {@code redis-key.ttl-refresh.threshold} of it is left, so a key read or written many times a minute
+ * costs one {@code EXPIRE} per half TTL instead of one per request. Callers must still set the TTL of a key they may
+ * have just created, the policy only knows about refreshes it allowed. Values that carry their own expiry, such as
+ * the last access time of a Spring Session, are checked against that expiry instead of the tracked one.
+ *
+ * Allowed and skipped refreshes are counted in {@code redis.ttl.refresh}, tagged with {@code result=issued} or
+ * {@code result=skipped}.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@Component
+public class TtlRefreshPolicy
+{
+    private static final String METRIC = "redis.ttl.refresh";
+
+    private final double threshold;
+
+    private final Cache<String, Long> expiries;
+
+    private final Counter issued;
+
+    private final Counter skipped;
+
+    public TtlRefreshPolicy(RedisKeyProperties redisKeyProperties, MeterRegistry meterRegistry)
+    {
+        final RedisKeyProperties.TtlRefresh settings = redisKeyProperties.getTtlRefresh();
+        this.threshold = settings.getThreshold();
+        this.expiries = Caffeine.newBuilder()
+            .maximumSize(settings.getMaxTrackedKeys())
+            .build();
+
+        this.issued = meterRegistry.counter(METRIC, "result", "issued");
+        this.skipped = meterRegistry.counter(METRIC, "result", "skipped");
+    }
+
+    /**
+     * Checks if the TTL of the given key should be refreshed now, and if so, records the refresh.
+     *
+     * @param key the Redis key
+     * @param ttl the TTL the key is refreshed to
+     * @return {@code true} if the caller must issue the {@code EXPIRE}; {@code false} if it can be skipped.
+     */
+    public boolean shouldRefresh(String key, Duration ttl)
+    {
+        final long now = System.currentTimeMillis();
+        final Long expiry = expiries.getIfPresent(key);
+        if (expiry != null && expiry - now > ttl.toMillis() * threshold)
+        {
+            skipped.increment();
+            return false;
+        }
+
+        expiries.put(key, now + ttl.toMillis());
+        issued.increment();
+        return true;
+    }
+
+    /**
+     * Checks if an expiry stored with the value itself should be pushed out now, e.g. the expiry a Spring Session derives
+     * from its last access time.
+     *
+     * @param expiresAt the current expiry of the value
+     * @param ttl the TTL the expiry is extended to
+     * @return {@code true} if the caller must extend the expiry; {@code false} if it can be skipped.
+     */
+    public boolean shouldRefresh(Instant expiresAt, Duration ttl)
+    {
+        if (expiresAt.toEpochMilli() - System.currentTimeMillis() > ttl.toMillis() * threshold)
+        {
+            skipped.increment();
+            return false;
+        }
+
+        issued.increment();
+        return true;
+    }
+
+    /**
+     * Forgets the given key, so its next refresh is issued. Call it when the key was deleted.
+     *
+     * @param key the Redis key
+     */
+    public void forget(String key)
+    {
+        expiries.invalidate(key);
+    }
+}
\ No newline at end of file
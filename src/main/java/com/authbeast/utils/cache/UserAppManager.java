@@ -1,19 +1,27 @@
 package com.zentois.authbeast.utils.cache;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.zentois.authbeast.config.RedisKeyProperties;
 import com.zentois.authbeast.dto.session_data.SessionUserData;
 import com.zentois.authbeast.dto.session_data.TokenDataList;
 import com.zentois.authbeast.dto.session_data.UserAccount;
 import com.zentois.authbeast.enums.ErrorDescription;
 import com.zentois.authbeast.enums.redis.HashKeyValue;
+import com.zentois.authbeast.enums.redis.RedisKeyKind;
 import com.zentois.util.ObjectMapper;
 
 import jakarta.servlet.http.HttpSession;
@@ -22,14 +30,26 @@ import lombok.RequiredArgsConstructor;
 /**
  * Utility class for managing user session data, specifically for handling user applications session.
  * 
+ * The logged in applications of a session written by earlier releases are still read: the JSON list in the user app
+ * info field of the {@code <bSID>:<sessionID>} hash is merged into the current set on read, so a session that signs in
+ * to a new application after a deploy keeps its older ones.
+ * 
  * @author Ashwani Singh
- * @version 1.0
+ * @version 1.5
  * @since 2024-Nov-24
  */
 @RequiredArgsConstructor
 @Component
 public class UserAppManager
 {
+    private static final RedisScript<Long> ADD_USER_APP_SCRIPT = RedisScript.of(new ClassPathResource("scripts/add_user_app.lua"), Long.class);
+
+    private final RedisKeyProperties redisKeyProperties;
+
+    private final RedisNearCache redisNearCache;
+
+    private final TtlRefreshPolicy ttlRefreshPolicy;
+
     /**
      * Updates the user's session data with the provided origin by adding a new entry for the origin if it does not already exist.
      * This method is used to keep track of the user's active sessions across different applications.
@@ -53,40 +73,85 @@ public class UserAppManager
     /**
      * Updates the Redis cache with the user's logged in applications.
      * 
-     * This method retrieves the user's app info from Redis, deserializes it into a list of strings, and checks if the given origin is already
-     * in the list. If not, the origin is added to the list, and the list is then serialized and stored back in Redis. The Redis key is set to
-     * expire after one day.
+     * The logged in applications are kept in a Redis set. The origin is added to the set and the TTL of the set is refreshed by
+     * a server side script in a single round trip, so two concurrent logins can not lose each other's application. The script is
+     * called by its SHA and the set expires after the TTL of {@link RedisKeyKind#USER_APP_INFO}. The TTL is only pushed out when
+     * the {@link TtlRefreshPolicy} asks for it or the set has none yet. The set is dropped from the {@link RedisNearCache} of every node.
      * 
      * @param session The HttpSession instance for the user.
      * @param sessionId The session ID for the user attempting to login.
      * @param origin The origin of the application that the user is attempting to access.
      * @param redisTemplate The RedisTemplate instance for interacting with Redis.
-     * 
-     * @throws RuntimeException If an error occurs while processing the session data.
      */
     public void updateRedisCache(HttpSession session, String sessionId, String origin, RedisTemplate<String, String> redisTemplate)
     {
-        try
+        final String appsKey = RedisKeyUtil.userApps(session.getId(), sessionId);
+        final Duration ttl = redisKeyProperties.getTtl(RedisKeyKind.USER_APP_INFO);
+        final String refresh = ttlRefreshPolicy.shouldRefresh(appsKey, ttl) ? "1" : "0";
+        redisTemplate.execute(ADD_USER_APP_SCRIPT, List.of(appsKey), origin, String.valueOf(ttl.toSeconds()), refresh);
+        redisNearCache.invalidate(appsKey);
+    }
+
+    /**
+     * Returns the origins of the applications the user is logged in to within the given browser session.
+     * The set is read through the {@link RedisNearCache}, together with the applications recorded by earlier releases in the
+     * legacy user app info hash field, in a single pipeline.
+     * 
+     * @param session The HttpSession instance for the user.
+     * @param sessionId The session ID of the user.
+     * @param redisTemplate The RedisTemplate instance for interacting with Redis.
+     * 
+     * @return A list of strings representing the origins of the applications the user is logged in to.
+     * 
+     * @throws JsonProcessingException If an error occurs while deserializing the legacy user app info string.
+     */
+    public List<String> getUserLoggedInApps(HttpSession session, String sessionId, RedisTemplate<String, String> redisTemplate) throws JsonProcessingException
+    {
+        final String legacyKey = session.getId() + ":" + sessionId;
+        @SuppressWarnings("unchecked")
+        final Set<String> apps = redisNearCache.get(RedisKeyUtil.userApps(session.getId(), sessionId), Set.class, key -> readApps(redisTemplate, key, legacyKey));
+        return apps == null ? new ArrayList<>() : new ArrayList<>(apps);
+    }
+
+    private Set<String> readApps(RedisTemplate<String, String> redisTemplate, String key, String legacyKey)
+    {
+        final List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection ->
+        {
+            // the legacy hash lives in another slot than the current set, so it is read with a separate command
+            connection.setCommands().sMembers(bytes(key));
+            connection.hashCommands().hGet(bytes(legacyKey), bytes(HashKeyValue.USER_APP_INFO.getKey()));
+            return null;
+        });
+
+        final Set<String> apps = new LinkedHashSet<>();
+        addAll(apps, results.get(0));
+        if (results.get(1) instanceof String userAppInfo)
         {
-            final String userAppInfo = (String) redisTemplate.opsForHash().get(session.getId() + ":" + sessionId, HashKeyValue.USER_APP_INFO.getKey());
-            
-            final List<String> userLoggedInApps = getUserLoggedInApps(userAppInfo);
-            
-            if (!userLoggedInApps.contains(origin))
+            try
             {
-                userLoggedInApps.add(origin);
+                apps.addAll(getUserLoggedInApps(userAppInfo));
+            }
+            catch (JsonProcessingException e)
+            {
+                throw new RuntimeException(ErrorDescription.ERROR_PROCESSING_FAILURE.getMessage(), e);
             }
-            
-            final String updatedUserAppInfo = ObjectMapper.GENERIC_MAPPER.writeValueAsString(userLoggedInApps);
-            redisTemplate.opsForHash().put(session.getId() + ":" + sessionId, HashKeyValue.USER_APP_INFO.getKey(), updatedUserAppInfo);
-            redisTemplate.expire(session.getId() + ":" + sessionId, Duration.ofDays(1));
         }
-        catch (JsonProcessingException e)
+        return apps.isEmpty() ? null : Set.copyOf(apps);
+    }
+
+    private static void addAll(Set<String> apps, Object members)
+    {
+        if (members instanceof Set<?> set)
         {
-            throw new RuntimeException(ErrorDescription.REDIS_CACHE_FAILED.getMessage(), e);
+            set.forEach(member -> apps.add(member.toString()));
         }
     }
 
+    private static byte[] bytes(String value)
+    {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * Deserialize the given user app info string into a list of strings representing the origins of the applications the user is logged in to.
      * If the given user app info string is null, return an empty list.
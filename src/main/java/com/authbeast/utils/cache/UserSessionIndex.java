@@ -0,0 +1,233 @@
+package com.zentois.authbeast.utils.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.Session;
+import org.springframework.stereotype.Component;
+
+import com.zentois.authbeast.config.RedisKeyProperties;
+import com.zentois.authbeast.enums.redis.RedisChannel;
+import com.zentois.authbeast.enums.redis.RedisKeyKind;
+import com.zentois.authbeast.utils.hash.HashingUtil;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Secondary index from an account to every session it is signed in to, so all of them can be revoked at once,
+ * e.g. after a password change.
+ *
+ * Each account has a set {@link RedisKeyUtil#userSessions} keyed by the SHA-256 of its normalized email, so no email
+ * appears in a key name. A member is the browser session ID and the session ID of the account, which is also the
+ * family of every refresh token issued to it. Each browser session has a set {@link RedisKeyUtil#sessionAccounts} of
+ * the session IDs of the accounts signed in within it. Both sets are refreshed to the TTL of
+ * {@link RedisKeyKind#USER_SESSIONS} on every sign-in and the members of an account are removed when it signs out.
+ * Members of sessions that expired are dropped on the next revocation or with the set.
+ *
+ * A revocation only removes the account: its applications are unlinked, its refresh token families are marked as
+ * revoked with a {@link RedisKeyKind#REVOKED_TOKEN_FAMILY} key checked on every refresh, and the cached tokens and near
+ * cache entries of its sessions are dropped on every node through the same pub/sub messages a sign-out publishes. A
+ * browser session is only deleted, through the {@link FindByIndexNameSessionRepository} so the principal name index and
+ * the expirations of Spring Session are cleaned up, once the account was its last one. The other accounts of a shared
+ * browser stay signed in. Apart from the session deletions this costs one read of the set and two pipelines, whatever
+ * the size of the key space.
+ *
+ * @author Ashwani Singh
+ * @version 1.3
+ * @since 2026-Oct-17
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSessionIndex
+{
+    private static final String DIGEST_ALGO = "SHA-256";
+
+    private static final String SEPARATOR = " ";
+
+    private static final String REVOKED = "1";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final RedisKeyProperties redisKeyProperties;
+
+    private final FindByIndexNameSessionRepository<? extends Session> sessionRepository;
+
+    /**
+     * Records that the account signed in within the given browser session.
+     *
+     * @param email the email of the account
+     * @param browserSessionId the browser session ID
+     * @param sessionId the session ID of the account
+     */
+    public void register(String email, String browserSessionId, String sessionId)
+    {
+        final byte[] key = bytes(indexKey(email));
+        final byte[] member = bytes(browserSessionId + SEPARATOR + sessionId);
+        final byte[] accountsKey = bytes(RedisKeyUtil.sessionAccounts(browserSessionId));
+        final long ttlSeconds = redisKeyProperties.getTtl(RedisKeyKind.USER_SESSIONS).toSeconds();
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection ->
+        {
+            connection.setCommands().sAdd(key, member);
+            connection.keyCommands().expire(key, ttlSeconds);
+            connection.setCommands().sAdd(accountsKey, bytes(sessionId));
+            connection.keyCommands().expire(accountsKey, ttlSeconds);
+            return null;
+        });
+    }
+
+    /**
+     * Removes the given session of the account from the index, e.g. when the account signs out.
+     *
+     * @param email the email of the account
+     * @param browserSessionId the browser session ID
+     * @param sessionId the session ID of the account
+     */
+    public void unregister(String email, String browserSessionId, String sessionId)
+    {
+        final byte[] key = bytes(indexKey(email));
+        final byte[] member = bytes(browserSessionId + SEPARATOR + sessionId);
+        final byte[] accountsKey = bytes(RedisKeyUtil.sessionAccounts(browserSessionId));
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection ->
+        {
+            connection.setCommands().sRem(key, member);
+            connection.setCommands().sRem(accountsKey, bytes(sessionId));
+            return null;
+        });
+    }
+
+    /**
+     * Checks if the refresh token family of the given account session was revoked.
+     *
+     * @param sessionId the session ID of the account, which is also the family of its refresh tokens
+     * @return {@code true} if the family was revoked; {@code false} otherwise
+     */
+    public boolean isFamilyRevoked(String sessionId)
+    {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(RedisKeyUtil.revokedTokenFamily(sessionId)));
+    }
+
+    /**
+     * Signs the account out of every browser session and revokes every refresh token family issued to it. A browser
+     * session is deleted only if no other account is signed in within it.
+     *
+     * @param email the email of the account
+     * @return the number of account sessions revoked
+     */
+    public int revokeAll(String email)
+    {
+        final String indexKey = indexKey(email);
+        final Set<String> members = redisTemplate.opsForSet().members(indexKey);
+
+        final Map<String, Set<String>> sessionIdsByBrowserSession = new LinkedHashMap<>();
+        for (String member : members == null ? Set.<String>of() : members)
+        {
+            final String[] ids = member.split(SEPARATOR, 2);
+            if (ids.length == 2)
+            {
+                sessionIdsByBrowserSession.computeIfAbsent(ids[0], browserSessionId -> new LinkedHashSet<>()).add(ids[1]);
+            }
+        }
+
+        // sessions signed in before the index existed have no account set and are only found through the principal name index
+        final List<String> unindexedBrowserSessionIds = sessionRepository.findByPrincipalName(email).keySet().stream()
+            .filter(browserSessionId -> !sessionIdsByBrowserSession.containsKey(browserSessionId))
+            .toList();
+        if (sessionIdsByBrowserSession.isEmpty() && unindexedBrowserSessionIds.isEmpty())
+        {
+            return 0;
+        }
+
+        // the account is removed from the browser sessions first, the ones left without an account are deleted
+        final List<Object> remaining = redisTemplate.executePipelined((RedisCallback<Object>) connection ->
+        {
+            sessionIdsByBrowserSession.forEach((browserSessionId, sessionIds) ->
+            {
+                final byte[] accountsKey = bytes(RedisKeyUtil.sessionAccounts(browserSessionId));
+                connection.setCommands().sRem(accountsKey, sessionIds.stream().map(UserSessionIndex::bytes).toArray(byte[][]::new));
+                connection.setCommands().sCard(accountsKey);
+            });
+            unindexedBrowserSessionIds.forEach(browserSessionId -> connection.keyCommands().exists(bytes(RedisKeyUtil.sessionAccounts(browserSessionId))));
+            return null;
+        });
+
+        final Set<String> emptyBrowserSessionIds = new LinkedHashSet<>();
+        int result = 0;
+        for (String browserSessionId : sessionIdsByBrowserSession.keySet())
+        {
+            // every indexed browser session has the reply of SREM followed by the one of SCARD
+            if (remaining.get(result + 1) instanceof Long accounts && accounts == 0)
+            {
+                emptyBrowserSessionIds.add(browserSessionId);
+            }
+            result += 2;
+        }
+        for (String browserSessionId : unindexedBrowserSessionIds)
+        {
+            // an account set that exists lists every account of the session, and this account is not one of them
+            if (Boolean.FALSE.equals(remaining.get(result++)))
+            {
+                emptyBrowserSessionIds.add(browserSessionId);
+            }
+        }
+
+        // the repository also drops the principal name index entry and the expirations of the session
+        emptyBrowserSessionIds.forEach(sessionRepository::deleteById);
+
+        final Set<String> families = new LinkedHashSet<>();
+        final Set<String> keys = new LinkedHashSet<>();
+        final Set<String> revocations = new LinkedHashSet<>();
+        final Set<String> nearCacheKeys = new LinkedHashSet<>();
+        sessionIdsByBrowserSession.forEach((browserSessionId, sessionIds) -> sessionIds.forEach(sessionId ->
+        {
+            keys.add(RedisKeyUtil.userApps(browserSessionId, sessionId));
+            nearCacheKeys.add(RedisKeyUtil.userApps(browserSessionId, sessionId));
+            families.add(sessionId);
+            revocations.add(TokenClaimsCache.sessionRevocation(sessionId));
+        }));
+        emptyBrowserSessionIds.forEach(browserSessionId ->
+        {
+            keys.add(RedisKeyUtil.sessionAccounts(browserSessionId));
+            revocations.add(TokenClaimsCache.browserSessionRevocation(browserSessionId));
+        });
+        keys.add(indexKey);
+
+        final long familyTtlSeconds = redisKeyProperties.getTtl(RedisKeyKind.REVOKED_TOKEN_FAMILY).toSeconds();
+        final byte[] revoked = bytes(REVOKED);
+        final byte[] tokenRevokedChannel = bytes(RedisChannel.TOKEN_REVOKED.getChannel());
+        final byte[] nearCacheChannel = bytes(RedisChannel.NEAR_CACHE_INVALIDATED.getChannel());
+        redisTemplate.executePipelined((RedisCallback<Object>) connection ->
+        {
+            // keys of different browser sessions live in different slots, so they are written one by one
+            families.forEach(family -> connection.stringCommands().setEx(bytes(RedisKeyUtil.revokedTokenFamily(family)), familyTtlSeconds, revoked));
+            keys.forEach(key -> connection.keyCommands().unlink(bytes(key)));
+            revocations.forEach(revocation -> connection.publish(tokenRevokedChannel, bytes(revocation)));
+            nearCacheKeys.forEach(key -> connection.publish(nearCacheChannel, bytes(key)));
+            return null;
+        });
+
+        log.info("Revoked {} sessions of an account and deleted {} of its browser sessions", families.size(), emptyBrowserSessionIds.size());
+        return families.size();
+    }
+
+    private static String indexKey(String email)
+    {
+        return RedisKeyUtil.userSessions(HashingUtil.hashCodeVerifier(email.trim().toLowerCase(Locale.ROOT), DIGEST_ALGO));
+    }
+
+    private static byte[] bytes(String value)
+    {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.zentois.authbeast.utils.codec;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.zentois.authbeast.enums.ErrorDescription;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+
+/**
+ * Utility class framing the compact values the SSO server writes to Redis.
+ *
+ * A frame starts with a four byte header: two magic bytes, the format version and the flags. The magic bytes can
+ * never start a JSON document, so a reader tells a framed value from a value written as plain JSON by an older
+ * release. A payload of at least the compression threshold is compressed with LZ4, its original length then follows
+ * the header. A payload LZ4 can not shrink is stored as is.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+public class CompactFrame
+{
+    private static final byte MAGIC_0 = (byte) 0xAB;
+
+    private static final byte MAGIC_1 = (byte) 0xBE;
+
+    private static final byte VERSION = 1;
+
+    private static final byte FLAG_LZ4 = 0x01;
+
+    private static final int HEADER_LENGTH = 4;
+
+    private static final int LENGTH_FIELD = Integer.BYTES;
+
+    private static final LZ4Factory LZ4 = LZ4Factory.fastestInstance();
+
+    private CompactFrame()
+    {
+    }
+
+    /**
+     * Frames the given payload, compressing it if it is at least the compression threshold long.
+     *
+     * @param payload the serialized value
+     * @param compressionThreshold the payload length from which on it is compressed, 0 to never compress
+     * @return the framed value
+     */
+    public static byte[] wrap(byte[] payload, int compressionThreshold)
+    {
+        if (compressionThreshold > 0 && payload.length >= compressionThreshold)
+        {
+            final LZ4Compressor compressor = LZ4.fastCompressor();
+            final int offset = HEADER_LENGTH + LENGTH_FIELD;
+            final byte[] framed = new byte[offset + compressor.maxCompressedLength(payload.length)];
+            final int compressedLength = compressor.compress(payload, 0, payload.length, framed, offset);
+            if (compressedLength < payload.length)
+            {
+                writeHeader(framed, FLAG_LZ4);
+                ByteBuffer.wrap(framed, HEADER_LENGTH, LENGTH_FIELD).putInt(payload.length);
+                return Arrays.copyOf(framed, offset + compressedLength);
+            }
+        }
+
+        final byte[] framed = new byte[HEADER_LENGTH + payload.length];
+        writeHeader(framed, (byte) 0);
+        System.arraycopy(payload, 0, framed, HEADER_LENGTH, payload.length);
+        return framed;
+    }
+
+    /**
+     * Checks if the given value was written as a frame.
+     *
+     * @param value the value read from Redis
+     * @return {@code true} if the value is framed; {@code false} if it is a legacy value
+     */
+    public static boolean isFramed(byte[] value)
+    {
+        return value != null && value.length >= HEADER_LENGTH && value[0] == MAGIC_0 && value[1] == MAGIC_1;
+    }
+
+    /**
+     * Returns the payload of the given frame, decompressing it if needed.
+     *
+     * @param framed the framed value
+     * @return the serialized value
+     * @throws SerializationException If the frame has an unknown version or is corrupt.
+     */
+    public static byte[] unwrap(byte[] framed)
+    {
+        if (framed[2] != VERSION)
+        {
+            throw new SerializationException(ErrorDescription.UNSUPPORTED_VALUE_FORMAT.getMessage());
+        }
+        if ((framed[3] & FLAG_LZ4) == 0)
+        {
+            return Arrays.copyOfRange(framed, HEADER_LENGTH, framed.length);
+        }
+
+        try
+        {
+            final int offset = HEADER_LENGTH + LENGTH_FIELD;
+            final byte[] payload = new byte[ByteBuffer.wrap(framed, HEADER_LENGTH, LENGTH_FIELD).getInt()];
+            final int length = LZ4.safeDecompressor().decompress(framed, offset, framed.length - offset, payload, 0);
+            if (length != payload.length)
+            {
+                throw new SerializationException(ErrorDescription.UNSUPPORTED_VALUE_FORMAT.getMessage());
+            }
+            return payload;
+        }
+        catch (LZ4Exception | IndexOutOfBoundsException | NegativeArraySizeException e)
+        {
+            throw new SerializationException(ErrorDescription.UNSUPPORTED_VALUE_FORMAT.getMessage(), e);
+        }
+    }
+
+    private static void writeHeader(byte[] framed, byte flags)
+    {
+        framed[0] = MAGIC_0;
+        framed[1] = MAGIC_1;
+        framed[2] = VERSION;
+        framed[3] = flags;
+    }
+}
\ No newline at end of file
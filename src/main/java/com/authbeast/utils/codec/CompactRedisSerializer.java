@@ -0,0 +1,56 @@
+package com.zentois.authbeast.utils.codec;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Redis serializer writing values as {@link CompactFrame}s and reading both frames and legacy values.
+ *
+ * New values are serialized by the payload serializer and framed, so they carry a format version and are compressed
+ * above the compression threshold. Values without a frame were written by an older release and are handed to the
+ * legacy serializer, so existing sessions survive the switch to the compact format and are rewritten compact on their
+ * next save.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object>
+{
+    private final RedisSerializer<Object> payloadSerializer;
+
+    private final RedisSerializer<Object> legacySerializer;
+
+    private final int compressionThreshold;
+
+    /**
+     * Creates a serializer framing the output of the given payload serializer.
+     *
+     * @param payloadSerializer the serializer of the framed payload
+     * @param legacySerializer the serializer values without a frame were written with
+     * @param compressionThreshold the payload length from which on it is compressed, 0 to never compress
+     */
+    public CompactRedisSerializer(RedisSerializer<Object> payloadSerializer, RedisSerializer<Object> legacySerializer, int compressionThreshold)
+    {
+        this.payloadSerializer = payloadSerializer;
+        this.legacySerializer = legacySerializer;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException
+    {
+        final byte[] payload = payloadSerializer.serialize(value);
+        return payload == null || payload.length == 0 ? payload : CompactFrame.wrap(payload, compressionThreshold);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException
+    {
+        if (bytes == null || bytes.length == 0)
+        {
+            return null;
+        }
+        return CompactFrame.isFramed(bytes) ? payloadSerializer.deserialize(CompactFrame.unwrap(bytes)) : legacySerializer.deserialize(bytes);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,232 @@
+package com.zentois.authbeast.utils.email;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.zentois.authbeast.config.RedisKeyProperties;
+import com.zentois.authbeast.config.SecurityProperties;
+import com.zentois.authbeast.dto.email.EmailOutboxMessage;
+import com.zentois.authbeast.enums.ErrorDescription;
+import com.zentois.authbeast.enums.redis.RedisKeyKind;
+import com.zentois.authbeast.utils.cache.RedisKeyUtil;
+import com.zentois.framework.email.enums.EmailType;
+import com.zentois.util.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Durable outbox of the emails sent by the SSO server.
+ *
+ * Requests only enqueue an email, which is a single Redis round trip, and the {@link EmailOutboxWorker} sends it in
+ * the background, so a slow or unavailable SMTP server never delays a sign-in or an OTP request. The outbox is a
+ * sorted set scored by the time a message is due. Claiming a batch rescores its messages to the end of a lease
+ * instead of removing them, so a message claimed by a node that dies before sending it is sent again by another node
+ * once the lease ends. Delivery is therefore at least once. An OTP email is only delivered while its OTP is valid,
+ * and dead letters never keep an OTP.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailOutbox
+{
+    private static final RedisScript<Long> ENQUEUE_EMAIL_SCRIPT = RedisScript.of(new ClassPathResource("scripts/enqueue_email.lua"), Long.class);
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> CLAIM_EMAILS_SCRIPT = RedisScript.of(new ClassPathResource("scripts/claim_emails.lua"), List.class);
+
+    private static final RedisScript<Long> RESCHEDULE_EMAIL_SCRIPT = RedisScript.of(new ClassPathResource("scripts/reschedule_email.lua"), Long.class);
+
+    private static final String DEAD_LETTER = "";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final RedisKeyProperties redisKeyProperties;
+
+    private final SecurityProperties securityProperties;
+
+    /**
+     * Enqueues an email without additional parameters, e.g. the account lock information.
+     *
+     * @param emailType the type of the email
+     * @param receiver the email address of the receiver
+     */
+    public void enqueue(EmailType emailType, String receiver)
+    {
+        enqueue(newMessage(emailType, receiver).build());
+    }
+
+    /**
+     * Enqueues an email carrying an OTP.
+     *
+     * @param emailType the type of the email
+     * @param receiver the email address of the receiver
+     * @param otp the OTP
+     * @param expiryMinutes the minutes the OTP is valid
+     * @param expiresAt the time the OTP expires in milliseconds since epoch, the email is dropped once it is reached
+     */
+    public void enqueueOtp(EmailType emailType, String receiver, String otp, long expiryMinutes, long expiresAt)
+    {
+        enqueue(newMessage(emailType, receiver).otp(otp).expiryMinutes(expiryMinutes).expiresAt(expiresAt).build());
+    }
+
+    /**
+     * Claims the due emails, reserving them for this node until the lease ends.
+     *
+     * @param limit the maximum number of emails to claim
+     * @return the serialized claimed emails, to be passed back to {@link #complete} or {@link #reschedule}
+     */
+    @SuppressWarnings("unchecked")
+    public List<String> claim(int limit)
+    {
+        final long now = System.currentTimeMillis();
+        final long leaseEnd = now + securityProperties.getEmailOutbox().getLease();
+        final List<String> claimed = redisTemplate.execute(CLAIM_EMAILS_SCRIPT, List.of(RedisKeyUtil.emailOutbox()), String.valueOf(now), String.valueOf(leaseEnd), String.valueOf(limit));
+        return claimed == null ? List.of() : claimed;
+    }
+
+    /**
+     * Removes a sent email from the outbox.
+     *
+     * @param claimed the serialized email as returned by {@link #claim}
+     */
+    public void complete(String claimed)
+    {
+        redisTemplate.opsForZSet().remove(RedisKeyUtil.emailOutbox(), claimed);
+    }
+
+    /**
+     * Replaces a claimed email with its next attempt.
+     *
+     * @param claimed the serialized email as returned by {@link #claim}
+     * @param next the email of the next attempt
+     * @param dueAt the time the next attempt is due in milliseconds since epoch
+     * @return {@code true} if the email was rescheduled; {@code false} if it was no longer claimed by this node.
+     */
+    public boolean reschedule(String claimed, EmailOutboxMessage next, long dueAt)
+    {
+        return replace(claimed, write(next), String.valueOf(dueAt), RedisKeyKind.EMAIL_OUTBOX);
+    }
+
+    /**
+     * Moves a claimed email to the dead letters.
+     *
+     * @param claimed the serialized email as returned by {@link #claim}
+     * @param deadLetter the email to keep as dead letter, its OTP is removed
+     * @return {@code true} if the email was dead lettered; {@code false} if it was no longer claimed by this node.
+     */
+    public boolean deadLetter(String claimed, EmailOutboxMessage deadLetter)
+    {
+        return replace(claimed, write(deadLetter.toBuilder().otp(null).build()), DEAD_LETTER, RedisKeyKind.EMAIL_DEAD_LETTERS);
+    }
+
+    /**
+     * Returns the number of emails in the outbox, including the claimed ones.
+     *
+     * @return the number of emails
+     */
+    public long size()
+    {
+        final Long size = redisTemplate.opsForZSet().zCard(RedisKeyUtil.emailOutbox());
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * Returns how long the longest waiting email is overdue, i.e. the time since it, or the lease of its last claim,
+     * was due.
+     *
+     * @return the age in milliseconds, 0 if no email is overdue
+     */
+    public long oldestOverdueMillis()
+    {
+        final Set<TypedTuple<String>> oldest = redisTemplate.opsForZSet().rangeWithScores(RedisKeyUtil.emailOutbox(), 0, 0);
+        if (oldest == null || oldest.isEmpty())
+        {
+            return 0;
+        }
+        final Double dueAt = oldest.iterator().next().getScore();
+        return dueAt == null ? 0 : Math.max(0, System.currentTimeMillis() - dueAt.longValue());
+    }
+
+    /**
+     * Returns the number of dead letters.
+     *
+     * @return the number of dead letters
+     */
+    public long deadLetterCount()
+    {
+        final Long size = redisTemplate.opsForList().size(RedisKeyUtil.emailDeadLetters());
+        return size == null ? 0 : size;
+    }
+
+    /**
+     * Parses a claimed email.
+     *
+     * @param claimed the serialized email as returned by {@link #claim}
+     * @return the email
+     * @throws RuntimeException If the email can not be parsed.
+     */
+    public EmailOutboxMessage read(String claimed)
+    {
+        try
+        {
+            return ObjectMapper.GENERIC_MAPPER.readValue(claimed, EmailOutboxMessage.class);
+        }
+        catch (JsonProcessingException e)
+        {
+            throw new RuntimeException(ErrorDescription.ERROR_PROCESSING_FAILURE.getMessage(), e);
+        }
+    }
+
+    /**
+     * Serializes an email.
+     *
+     * @param message the email
+     * @return the serialized email
+     */
+    public String write(EmailOutboxMessage message)
+    {
+        try
+        {
+            return ObjectMapper.GENERIC_MAPPER.writeValueAsString(message);
+        }
+        catch (JsonProcessingException e)
+        {
+            throw new RuntimeException(ErrorDescription.ERROR_PROCESSING_FAILURE.getMessage(), e);
+        }
+    }
+
+    private void enqueue(EmailOutboxMessage message)
+    {
+        final String ttl = String.valueOf(redisKeyProperties.getTtl(RedisKeyKind.EMAIL_OUTBOX).toMillis());
+        redisTemplate.execute(ENQUEUE_EMAIL_SCRIPT, List.of(RedisKeyUtil.emailOutbox()), String.valueOf(message.getEnqueuedAt()), write(message), ttl);
+    }
+
+    private boolean replace(String claimed, String replacement, String dueAt, RedisKeyKind kind)
+    {
+        final String limit = String.valueOf(securityProperties.getEmailOutbox().getDeadLetterLimit());
+        final String ttl = String.valueOf(redisKeyProperties.getTtl(kind).toMillis());
+        final Long replaced = redisTemplate.execute(RESCHEDULE_EMAIL_SCRIPT, List.of(RedisKeyUtil.emailOutbox(), RedisKeyUtil.emailDeadLetters()), claimed, replacement, dueAt, limit, ttl);
+        return replaced != null && replaced == 1;
+    }
+
+    private EmailOutboxMessage.EmailOutboxMessageBuilder newMessage(EmailType emailType, String receiver)
+    {
+        return EmailOutboxMessage.builder()
+            .id(UUID.randomUUID().toString())
+            .emailType(emailType)
+            .sender(securityProperties.getSenderEmail())
+            .receiver(receiver)
+            .enqueuedAt(System.currentTimeMillis());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,268 @@
+package com.zentois.authbeast.utils.email;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.zentois.authbeast.config.SecurityProperties;
+import com.zentois.authbeast.dto.context.OtpParam;
+import com.zentois.authbeast.dto.email.EmailOutboxMessage;
+import com.zentois.framework.email.dto.Context;
+import com.zentois.framework.email.service.EmailSenderService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends the emails of the {@link EmailOutbox} on a small pool of sender threads.
+ *
+ * Every poll claims at most as many due emails as there are free slots in the current batch, so claimed emails never
+ * wait in this node longer than their lease. A failed send is retried with exponential backoff, capped at
+ * {@code security.email-outbox.max-backoff}, and moved to the dead letters after
+ * {@code security.email-outbox.max-attempts} attempts. An OTP email is dropped instead of sent or retried once its OTP
+ * expired, since the code could no longer be used. Pointing {@code spring.mail.host} at a local SMTP stub is
+ * enough to exercise the whole path in development.
+ *
+ * The outbox is exported as the {@code email.outbox.size}, {@code email.outbox.age} (how long the longest waiting email
+ * is overdue) and {@code email.outbox.dead.letters} gauges, the outcomes of the attempts as the
+ * {@code email.outbox.delivery} counter tagged with the result ({@code sent}, {@code retried}, {@code expired} or
+ * {@code dead-lettered}), and the time from enqueueing to sending as the
+ * {@code email.outbox.latency} timer.
+ *
+ * @author Ashwani Singh
+ * @version 1.1
+ * @since 2026-Oct-17
+ */
+@Slf4j
+@Component
+public class EmailOutboxWorker
+{
+    private static final int MAX_BACKOFF_SHIFT = 30;
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final EmailOutbox emailOutbox;
+
+    private final EmailSenderService emailSenderService;
+
+    private final SecurityProperties.EmailOutbox settings;
+
+    private final ExecutorService executor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final Timer sendTimer;
+
+    private final Timer latencyTimer;
+
+    private final Counter sent;
+
+    private final Counter retried;
+
+    private final Counter expired;
+
+    private final Counter deadLettered;
+
+    public EmailOutboxWorker(EmailOutbox emailOutbox, EmailSenderService emailSenderService, SecurityProperties securityProperties, MeterRegistry meterRegistry)
+    {
+        this.emailOutbox = emailOutbox;
+        this.emailSenderService = emailSenderService;
+        this.settings = securityProperties.getEmailOutbox();
+
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("email-outbox-");
+        threadFactory.setDaemon(true);
+        this.executor = Executors.newFixedThreadPool(settings.getThreads(), threadFactory);
+
+        Gauge.builder("email.outbox.size", emailOutbox, EmailOutbox::size)
+            .description("Emails in the outbox, including the claimed ones")
+            .register(meterRegistry);
+        Gauge.builder("email.outbox.age", emailOutbox, EmailOutbox::oldestOverdueMillis)
+            .description("Milliseconds the longest waiting email of the outbox is overdue")
+            .register(meterRegistry);
+        Gauge.builder("email.outbox.dead.letters", emailOutbox, EmailOutbox::deadLetterCount)
+            .description("Emails that could not be sent within the allowed attempts")
+            .register(meterRegistry);
+        this.sendTimer = Timer.builder("email.outbox.send")
+            .description("Time spent sending an email")
+            .register(meterRegistry);
+        this.latencyTimer = Timer.builder("email.outbox.latency")
+            .description("Time from enqueueing an email to sending it")
+            .register(meterRegistry);
+        this.sent = meterRegistry.counter("email.outbox.delivery", "result", "sent");
+        this.retried = meterRegistry.counter("email.outbox.delivery", "result", "retried");
+        this.expired = meterRegistry.counter("email.outbox.delivery", "result", "expired");
+        this.deadLettered = meterRegistry.counter("email.outbox.delivery", "result", "dead-lettered");
+    }
+
+    /**
+     * Claims the due emails and hands them to the sender threads.
+     */
+    @Scheduled(initialDelayString = "${security.email-outbox.poll-interval}", fixedDelayString = "${security.email-outbox.poll-interval}")
+    public void poll()
+    {
+        final int free = settings.getBatchSize() - inFlight.get();
+        if (!settings.isEnabled() || free <= 0)
+        {
+            return;
+        }
+
+        final List<String> claimed;
+        try
+        {
+            claimed = emailOutbox.claim(free);
+        }
+        catch (RuntimeException e)
+        {
+            log.warn("Failed to claim emails from the outbox", e);
+            return;
+        }
+
+        for (String email : claimed)
+        {
+            inFlight.incrementAndGet();
+            executor.execute(() ->
+            {
+                try
+                {
+                    send(email);
+                }
+                finally
+                {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Stops the sender threads when the application shuts down. Emails claimed but not sent are sent again by any
+     * node once their lease ends.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException
+    {
+        executor.shutdown();
+        executor.awaitTermination(settings.getPollInterval(), TimeUnit.MILLISECONDS);
+    }
+
+    private void send(String claimed)
+    {
+        final EmailOutboxMessage message;
+        try
+        {
+            message = emailOutbox.read(claimed);
+        }
+        catch (RuntimeException e)
+        {
+            log.error("Dead lettering an email of the outbox that can not be parsed", e);
+            // the payload may hold an OTP, so only the reason is kept
+            final EmailOutboxMessage unparseable = EmailOutboxMessage.builder()
+                .enqueuedAt(System.currentTimeMillis())
+                .lastError(truncate(String.valueOf(e.getMessage())))
+                .build();
+            if (emailOutbox.deadLetter(claimed, unparseable))
+            {
+                deadLettered.increment();
+            }
+            return;
+        }
+
+        if (isExpired(message, System.currentTimeMillis()))
+        {
+            drop(claimed, message);
+            return;
+        }
+
+        try
+        {
+            sendTimer.record(() -> emailSenderService.sendEmail(buildContext(message)));
+        }
+        catch (RuntimeException e)
+        {
+            retryOrDeadLetter(claimed, message, e);
+            return;
+        }
+
+        emailOutbox.complete(claimed);
+        latencyTimer.record(System.currentTimeMillis() - message.getEnqueuedAt(), TimeUnit.MILLISECONDS);
+        sent.increment();
+    }
+
+    private void retryOrDeadLetter(String claimed, EmailOutboxMessage message, RuntimeException error)
+    {
+        final int attempts = message.getAttempts() + 1;
+        final EmailOutboxMessage next = message.toBuilder()
+            .attempts(attempts)
+            .lastError(truncate(String.valueOf(error.getMessage())))
+            .build();
+
+        if (attempts >= settings.getMaxAttempts())
+        {
+            log.error("Dead lettering email {} of type {} after {} attempts", message.getId(), message.getEmailType(), attempts, error);
+            if (emailOutbox.deadLetter(claimed, next))
+            {
+                deadLettered.increment();
+            }
+            return;
+        }
+
+        log.warn("Failed to send email {} of type {}, attempt {} of {}", message.getId(), message.getEmailType(), attempts, settings.getMaxAttempts(), error);
+        final long dueAt = System.currentTimeMillis() + backoff(attempts);
+        if (isExpired(message, dueAt))
+        {
+            drop(claimed, message);
+            return;
+        }
+
+        if (emailOutbox.reschedule(claimed, next, dueAt))
+        {
+            retried.increment();
+        }
+    }
+
+    private void drop(String claimed, EmailOutboxMessage message)
+    {
+        log.warn("Dropping email {} of type {}, its OTP expired", message.getId(), message.getEmailType());
+        emailOutbox.complete(claimed);
+        expired.increment();
+    }
+
+    private static boolean isExpired(EmailOutboxMessage message, long at)
+    {
+        return message.getExpiresAt() != null && message.getExpiresAt() <= at;
+    }
+
+    private long backoff(int attempts)
+    {
+        final long backoff = settings.getInitialBackoff() << Math.min(attempts - 1, MAX_BACKOFF_SHIFT);
+        return backoff <= 0 ? settings.getMaxBackoff() : Math.min(backoff, settings.getMaxBackoff());
+    }
+
+    private static Context buildContext(EmailOutboxMessage message)
+    {
+        final Context.ContextBuilder context = Context.builder()
+            .emailType(message.getEmailType())
+            .emailSender(message.getSender())
+            .emailReceiver(message.getReceiver());
+        if (message.getOtp() != null)
+        {
+            context.additionalParams(OtpParam.builder().otp(message.getOtp()).expiryMinutes(message.getExpiryMinutes()).build());
+        }
+        return context.build();
+    }
+
+    private static String truncate(String error)
+    {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
\ No newline at end of file
@@ -1,27 +1,40 @@
 package com.zentois.authbeast.utils.mfa.email.otp;
 
 import java.security.SecureRandom;
+import java.util.List;
 
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
+import com.zentois.authbeast.config.RedisKeyProperties;
 import com.zentois.authbeast.dto.otp.OtpData;
 import com.zentois.authbeast.dto.otp.OtpSsoDto;
-import com.zentois.authbeast.dto.token.SsoTokenData;
+import com.zentois.authbeast.enums.otp.OtpVerificationResult;
+import com.zentois.authbeast.enums.redis.RedisKeyKind;
 import com.zentois.authbeast.service.SigninService;
+import com.zentois.authbeast.utils.cache.RedisKeyUtil;
+import com.zentois.authbeast.utils.cache.SsoTokenViewResolver;
+import com.zentois.authbeast.utils.hash.HashingUtil;
 import com.zentois.authbeast.utils.uid.UidGeneratorUtil;
-import com.zentois.util.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 
 /**
  * Utility class for generating and validating one-time passwords (OTPs) for multi-factor authentication.
  * 
+ * The SSO token data is read through the {@link SsoTokenViewResolver}, so the reads of one request share a single
+ * Redis {@code GET} and Jackson parse. The OTP itself is verified against a separate hash holding its SHA-256, expiry and
+ * attempt budget, see {@link #verifyOtp(String, String)}. The SSO token data only carries the expiry of the OTP, never
+ * the code itself.
+ * 
  * @author Ashwani Singh
- * @version 1.0
+ * @version 1.2
  * @since 2024-Nov-11
  */
 @RequiredArgsConstructor
@@ -31,19 +44,35 @@ public class OtpHelper
     private static final int OTP_LENGTH = 6;
     
     private static final long OTP_VALID_DURATION = 60 * 1000; // 1 minutes
+
+    private static final int MAX_OTP_ATTEMPTS = 5;
+
+    private static final String OTP_HASH_ALGO = "SHA-256";
+
+    private static final RedisScript<Long> STORE_OTP_SCRIPT = RedisScript.of(new ClassPathResource("scripts/store_otp.lua"), Long.class);
+
+    private static final RedisScript<String> VERIFY_OTP_SCRIPT = RedisScript.of(new ClassPathResource("scripts/verify_otp.lua"), String.class);
     
     private final RedisTemplate<String, String> redisTemplate;
 
+    private final SsoTokenViewResolver ssoTokenViewResolver;
+
     private final SigninService signinService;
+
+    private final RedisKeyProperties redisKeyProperties;
+
+    private final MeterRegistry meterRegistry;
     
     public OtpSsoDto generateOtpWithSso(String appName, String email, HttpSession session, String code_challenge) throws JsonProcessingException
     {
         final String otp = generateRandomOtp();
         final long expiryTime = System.currentTimeMillis() + OTP_VALID_DURATION;
-        final OtpData otpData = new OtpData(otp, expiryTime);
+        // only the hash of the otp is stored, the sso token data carries just its expiry
+        final OtpData otpData = new OtpData(null, expiryTime);
 
         final String ssoToken = UidGeneratorUtil.generateSessionId();
         signinService.updateAppSessionInRedis(appName, email, session, code_challenge, ssoToken, email, otpData);
+        storeOtp(ssoToken, otp, expiryTime);
 
         return OtpSsoDto.builder().ssoToken(ssoToken).otp(otp).build();
     }
@@ -76,13 +105,7 @@ public class OtpHelper
      */
     public long getOtpExpiryTiming(String key) throws JsonMappingException, JsonProcessingException
     {
-        final String otpDataString = redisTemplate.opsForValue().get(key);
-        if (otpDataString == null)
-        {
-            return 0;
-        }
-        final SsoTokenData ssoTokenData = ObjectMapper.GENERIC_MAPPER.readValue(otpDataString, SsoTokenData.class);
-        return ssoTokenData != null ? ssoTokenData.getOtpData().getExpiryTime() : 0;
+        return ssoTokenViewResolver.resolve(key).getOtpExpiryTime();
     }
     
     /**
@@ -97,22 +120,38 @@ public class OtpHelper
      */
     public boolean validateOtp(String key, String otpToValidate) throws JsonMappingException, JsonProcessingException
     {
-        final String otpDataString = redisTemplate.opsForValue().get(key);
-        if (otpDataString == null)
-        {
-            return false;
-        }
-        final SsoTokenData ssoTokenData = ObjectMapper.GENERIC_MAPPER.readValue(otpDataString, SsoTokenData.class);
-        final boolean isOtpValid = ssoTokenData.getOtpData().getOtp().equals(otpToValidate);
-        final boolean isOtpExpired = System.currentTimeMillis() > ssoTokenData.getOtpData().getExpiryTime();
+        return verifyOtp(key, otpToValidate) == OtpVerificationResult.VALID;
+    }
 
-        if (isOtpValid && !isOtpExpired)
-        {
-            ssoTokenData.setOtpData(null);
-            return true;
-        }
+    /**
+     * Verifies the given one-time password (OTP) against the one stored in Redis for the given key.
+     * 
+     * The comparison, the consumption of a matching OTP and the spending of an attempt on a wrong one happen in a single
+     * server side script, so an OTP can be used only once and at most {@value #MAX_OTP_ATTEMPTS} guesses are compared.
+     * 
+     * @param key The unique identifier for which the OTP is being verified.
+     * @param otpToValidate The OTP to be verified.
+     * @return The outcome of the verification.
+     */
+    public OtpVerificationResult verifyOtp(String key, String otpToValidate)
+    {
+        final String outcome = redisTemplate.execute(VERIFY_OTP_SCRIPT, List.of(RedisKeyUtil.otp(key)), hashOtp(otpToValidate), String.valueOf(System.currentTimeMillis()));
+        final OtpVerificationResult result = outcome == null ? OtpVerificationResult.MISSING : OtpVerificationResult.valueOf(outcome);
+        meterRegistry.counter("otp.verifications", "result", result.name()).increment();
+        return result;
+    }
+
+    /**
+     * Stores the hash of the given OTP with its expiry and a fresh attempt budget, replacing any pending OTP of the key.
+     */
+    private void storeOtp(String key, String otp, long expiryTime)
+    {
+        redisTemplate.execute(STORE_OTP_SCRIPT, List.of(RedisKeyUtil.otp(key)), hashOtp(otp), String.valueOf(expiryTime), String.valueOf(MAX_OTP_ATTEMPTS), String.valueOf(redisKeyProperties.getTtl(RedisKeyKind.OTP).toMillis()));
+    }
 
-        return false;
+    private static String hashOtp(String otp)
+    {
+        return HashingUtil.hashCodeVerifier(otp, OTP_HASH_ALGO);
     }
 
     /**
@@ -125,12 +164,7 @@ public class OtpHelper
      */
     public String getEmailBySso(String ssoToken) throws JsonMappingException, JsonProcessingException
     {
-        final String otpDataString = redisTemplate.opsForValue().get(ssoToken);
-        if(otpDataString == null)
-        {
-            return null;
-        }
-        return otpDataString == null ? null : ObjectMapper.GENERIC_MAPPER.readValue(otpDataString, SsoTokenData.class).getSessionData().getEmail();
+        return ssoTokenViewResolver.resolve(ssoToken).getEmail();
     }
 
     /**
@@ -141,6 +175,6 @@ public class OtpHelper
      */
     public Boolean isSsoTokenExist(String ssoToken)
     {
-        return redisTemplate.hasKey(ssoToken);
+        return redisTemplate.hasKey(RedisKeyUtil.ssoToken(ssoToken));
     }
 }
\ No newline at end of file
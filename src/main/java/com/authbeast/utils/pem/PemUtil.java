@@ -0,0 +1,81 @@
+package com.zentois.authbeast.utils.pem;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.InvalidKeySpecException;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+
+/**
+ * Utility class for reading and writing PEM encoded key pairs (PKCS#8 private key, X.509 public key).
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+public class PemUtil
+{
+    private static final String PRIVATE_KEY_TYPE = "PRIVATE KEY";
+
+    private static final String PUBLIC_KEY_TYPE = "PUBLIC KEY";
+
+    /**
+     * Reads and parses a PEM encoded private and public key file pair.
+     *
+     * @param privateKeyFile The PKCS#8 private key file.
+     * @param publicKeyFile  The X.509 public key file.
+     * @param algorithm      The key algorithm, e.g. RSA or EC.
+     * @return The parsed key pair.
+     * @throws IOException If an error occurs while reading the files.
+     * @throws NoSuchAlgorithmException If the key algorithm is not available.
+     * @throws InvalidKeySpecException If a file does not contain a valid key.
+     */
+    public static KeyPair readKeyPair(File privateKeyFile, File publicKeyFile, String algorithm) throws IOException, NoSuchAlgorithmException, InvalidKeySpecException
+    {
+        final KeyFactory keyFactory = KeyFactory.getInstance(algorithm);
+        final PrivateKey privateKey = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(read(privateKeyFile, PRIVATE_KEY_TYPE)));
+        final PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(read(publicKeyFile, PUBLIC_KEY_TYPE)));
+        return new KeyPair(publicKey, privateKey);
+    }
+
+    /**
+     * Writes a key pair as PEM encoded private and public key files.
+     *
+     * @param privateKeyFile The file to write the PKCS#8 private key to.
+     * @param publicKeyFile  The file to write the X.509 public key to.
+     * @param keyPair        The key pair to write.
+     * @throws IOException If an error occurs while writing the files.
+     */
+    public static void writeKeyPair(File privateKeyFile, File publicKeyFile, KeyPair keyPair) throws IOException
+    {
+        write(privateKeyFile, PRIVATE_KEY_TYPE, keyPair.getPrivate().getEncoded());
+        write(publicKeyFile, PUBLIC_KEY_TYPE, keyPair.getPublic().getEncoded());
+    }
+
+    private static byte[] read(File file, String type) throws IOException
+    {
+        final String content = new String(Files.readAllBytes(file.toPath()))
+            .replace("-----BEGIN " + type + "-----", "")
+            .replace("-----END " + type + "-----", "")
+            .replaceAll("\\s+", "");
+        return Base64.getDecoder().decode(content);
+    }
+
+    private static void write(File file, String type, byte[] encoded) throws IOException
+    {
+        try (FileOutputStream fos = new FileOutputStream(file))
+        {
+            fos.write(("-----BEGIN " + type + "-----\n").getBytes());
+            fos.write(Base64.getEncoder().encode(encoded));
+            fos.write(("\n-----END " + type + "-----\n").getBytes());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,16 @@
+-- Adds an application to the set of applications an account is signed in to and refreshes the TTL of the set.
+-- The script touches a single key, so it runs unchanged on a Redis Cluster.
+-- The TTL is only written when the caller asks for a refresh or the set has no TTL yet, e.g. because it was just created.
+--
+-- KEYS[1] set of signed in applications
+-- ARGV[1] origin of the application
+-- ARGV[2] ttl of the set in seconds
+-- ARGV[3] '1' to refresh the ttl, '0' to only set it on a set without one
+--
+-- returns 1 if the application was added, 0 if it was already in the set
+
+local added = redis.call('SADD', KEYS[1], ARGV[1])
+if ARGV[3] == '1' or redis.call('TTL', KEYS[1]) < 0 then
+    redis.call('EXPIRE', KEYS[1], ARGV[2])
+end
+return added
\ No newline at end of file
@@ -0,0 +1,19 @@
+-- Compare-and-set of a hash field guarded by a version field.
+-- The field is written and the version incremented only if the version still matches the one the caller read.
+--
+-- KEYS[1] hash holding the field
+-- ARGV[1] field to write
+-- ARGV[2] version field of the field
+-- ARGV[3] version the caller read, empty if the field had no version yet
+-- ARGV[4] new value of the field
+--
+-- returns 1 if the field was written, 0 if another writer got in first
+
+local version = redis.call('HGET', KEYS[1], ARGV[2]) or ''
+if version ~= ARGV[3] then
+    return 0
+end
+
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[4])
+redis.call('HINCRBY', KEYS[1], ARGV[2], 1)
+return 1
\ No newline at end of file
@@ -0,0 +1,16 @@
+-- Claims a batch of due emails from the outbox.
+-- A claimed message stays in the outbox, rescored to the end of its lease, so it is sent again by any node
+-- once the lease ends without the message being completed, rescheduled or dead lettered.
+--
+-- KEYS[1] outbox sorted set, scored by the time a message is due
+-- ARGV[1] current time in milliseconds since epoch
+-- ARGV[2] end of the lease in milliseconds since epoch
+-- ARGV[3] maximum number of messages to claim
+--
+-- returns the claimed messages
+
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[3]))
+for _, message in ipairs(due) do
+    redis.call('ZADD', KEYS[1], 'XX', ARGV[2], message)
+end
+return due
\ No newline at end of file
@@ -0,0 +1,10 @@
+-- Enqueues an email in the outbox and extends the TTL of the outbox.
+--
+-- KEYS[1] outbox sorted set, scored by the time a message is due
+-- ARGV[1] time the message is due in milliseconds since epoch
+-- ARGV[2] the serialized message
+-- ARGV[3] ttl of the outbox in milliseconds
+
+redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+redis.call('PEXPIRE', KEYS[1], ARGV[3])
+return 1
\ No newline at end of file
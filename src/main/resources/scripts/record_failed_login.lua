@@ -0,0 +1,13 @@
+-- Counts a failed login of an account within a fixed window.
+-- The window starts with the first failure, later failures do not extend it.
+--
+-- KEYS[1] failed login counter of the account
+-- ARGV[1] length of the window in seconds
+--
+-- returns the number of failed logins within the window, including this one
+
+local failures = redis.call('INCR', KEYS[1])
+if failures == 1 or redis.call('TTL', KEYS[1]) < 0 then
+    redis.call('EXPIRE', KEYS[1], ARGV[1])
+end
+return failures
\ No newline at end of file
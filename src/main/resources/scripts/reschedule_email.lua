@@ -0,0 +1,27 @@
+-- Replaces a claimed email with its next attempt, or moves it to the dead letters.
+-- Nothing is written when the claimed message is no longer in the outbox, i.e. its lease ended and another
+-- node already took it over.
+--
+-- KEYS[1] outbox sorted set, scored by the time a message is due
+-- KEYS[2] dead letter list
+-- ARGV[1] the claimed message
+-- ARGV[2] the message of the next attempt
+-- ARGV[3] time the next attempt is due in milliseconds since epoch, empty to dead letter the message
+-- ARGV[4] maximum number of dead letters kept
+-- ARGV[5] ttl of the written key in milliseconds
+--
+-- returns 1 if the message was rescheduled or dead lettered, 0 if it was no longer claimed
+
+if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then
+    return 0
+end
+
+if ARGV[3] == '' then
+    redis.call('LPUSH', KEYS[2], ARGV[2])
+    redis.call('LTRIM', KEYS[2], 0, tonumber(ARGV[4]) - 1)
+    redis.call('PEXPIRE', KEYS[2], ARGV[5])
+else
+    redis.call('ZADD', KEYS[1], ARGV[3], ARGV[2])
+    redis.call('PEXPIRE', KEYS[1], ARGV[5])
+end
+return 1
\ No newline at end of file
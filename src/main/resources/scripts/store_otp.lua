@@ -0,0 +1,12 @@
+-- Stores a freshly generated OTP, replacing any pending one, together with its attempt budget and TTL.
+--
+-- KEYS[1] otp hash
+-- ARGV[1] SHA-256 hash of the otp
+-- ARGV[2] expiry time of the otp in milliseconds since epoch
+-- ARGV[3] number of verification attempts allowed
+-- ARGV[4] ttl of the hash in milliseconds
+
+redis.call('DEL', KEYS[1])
+redis.call('HSET', KEYS[1], 'code', ARGV[1], 'exp', ARGV[2], 'attempts', ARGV[3])
+redis.call('PEXPIRE', KEYS[1], ARGV[4])
+return 1
\ No newline at end of file
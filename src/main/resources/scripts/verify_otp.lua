@@ -0,0 +1,31 @@
+-- Verifies an entered OTP in one step: compares it, consumes it when it matches and spends an attempt when it does not.
+--
+-- KEYS[1] otp hash
+-- ARGV[1] SHA-256 hash of the entered otp
+-- ARGV[2] current time in milliseconds since epoch
+--
+-- returns VALID, INVALID, EXPIRED, EXHAUSTED or MISSING
+
+local otp = redis.call('HMGET', KEYS[1], 'code', 'exp', 'attempts')
+if not otp[1] then
+    return 'MISSING'
+end
+
+if tonumber(otp[2]) < tonumber(ARGV[2]) then
+    redis.call('DEL', KEYS[1])
+    return 'EXPIRED'
+end
+
+if tonumber(otp[3]) <= 0 then
+    return 'EXHAUSTED'
+end
+
+if otp[1] == ARGV[1] then
+    redis.call('DEL', KEYS[1])
+    return 'VALID'
+end
+
+if redis.call('HINCRBY', KEYS[1], 'attempts', -1) <= 0 then
+    return 'EXHAUSTED'
+end
+return 'INVALID'
\ No newline at end of file
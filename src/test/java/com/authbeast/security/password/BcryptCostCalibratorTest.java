@@ -0,0 +1,41 @@
+package com.zentois.authbeast.security.password;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+/**
+ * Tests reading the cost factor of a stored password hash.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+class BcryptCostCalibratorTest
+{
+    @Test
+    void costOfReadsTheCostOfEveryBcryptVersion()
+    {
+        assertThat(BcryptCostCalibrator.costOf("$2a$10$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")).isEqualTo(10);
+        assertThat(BcryptCostCalibrator.costOf("$2b$04$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")).isEqualTo(4);
+        assertThat(BcryptCostCalibrator.costOf("$2y$31$N9qo8uLOickgx2ZMRZoMyeIjZAgcfl7p92ldGxad68LJZdL17lhWy")).isEqualTo(31);
+    }
+
+    @Test
+    void costOfReadsTheCostOfAFreshHash()
+    {
+        assertThat(BcryptCostCalibrator.costOf(BCrypt.hashpw("secret", BCrypt.gensalt(5)))).isEqualTo(5);
+    }
+
+    @Test
+    void costOfRejectsValuesThatAreNoBcryptHash()
+    {
+        assertThat(BcryptCostCalibrator.costOf(null)).isEqualTo(-1);
+        assertThat(BcryptCostCalibrator.costOf("")).isEqualTo(-1);
+        assertThat(BcryptCostCalibrator.costOf("$2a$")).isEqualTo(-1);
+        assertThat(BcryptCostCalibrator.costOf("plaintext")).isEqualTo(-1);
+        assertThat(BcryptCostCalibrator.costOf("{bcrypt}$2a$10$N9qo8uLOickgx2ZMRZoMye")).isEqualTo(-1);
+        assertThat(BcryptCostCalibrator.costOf("$2a$1x$N9qo8uLOickgx2ZMRZoMye")).isEqualTo(-1);
+    }
+}
\ No newline at end of file
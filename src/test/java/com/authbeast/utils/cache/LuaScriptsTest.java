@@ -0,0 +1,217 @@
+package com.zentois.authbeast.utils.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Tests the Lua scripts the SSO server runs on Redis against a containerised Redis.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class LuaScriptsTest
+{
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static final String KEY = "authbeast:test:{key}";
+
+    private static final String DEAD_LETTERS = "authbeast:test:{key}:dead";
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate redisTemplate;
+
+    @BeforeAll
+    static void connect()
+    {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect()
+    {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void flush()
+    {
+        redisTemplate.execute((RedisCallback<Object>) connection ->
+        {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
+    @Test
+    void addUserAppAddsTheAppOnceAndOnlyRefreshesTheTtlWhenAsked()
+    {
+        final RedisScript<Long> script = script("add_user_app.lua", Long.class);
+
+        assertThat(redisTemplate.execute(script, List.of(KEY), "Cartxflip", "100", "0")).isEqualTo(1L);
+        assertThat(redisTemplate.getExpire(KEY)).isBetween(1L, 100L);
+
+        assertThat(redisTemplate.execute(script, List.of(KEY), "Cartxflip", "1000", "0")).isZero();
+        assertThat(redisTemplate.getExpire(KEY)).isLessThanOrEqualTo(100L);
+
+        assertThat(redisTemplate.execute(script, List.of(KEY), "Other", "1000", "1")).isEqualTo(1L);
+        assertThat(redisTemplate.getExpire(KEY)).isGreaterThan(100L);
+        assertThat(redisTemplate.opsForSet().members(KEY)).containsExactlyInAnyOrder("Cartxflip", "Other");
+    }
+
+    @Test
+    void casHashFieldOnlyWritesOverTheVersionTheCallerRead()
+    {
+        final RedisScript<Long> script = script("cas_hash_field.lua", Long.class);
+
+        assertThat(redisTemplate.execute(script, List.of(KEY), "userData", "userData:version", "", "first")).isEqualTo(1L);
+        assertThat(redisTemplate.execute(script, List.of(KEY), "userData", "userData:version", "", "stale")).isZero();
+        assertThat(redisTemplate.opsForHash().get(KEY, "userData")).isEqualTo("first");
+
+        assertThat(redisTemplate.execute(script, List.of(KEY), "userData", "userData:version", "1", "second")).isEqualTo(1L);
+        assertThat(redisTemplate.opsForHash().get(KEY, "userData")).isEqualTo("second");
+        assertThat(redisTemplate.opsForHash().get(KEY, "userData:version")).isEqualTo("2");
+    }
+
+    @Test
+    void verifyOtpConsumesAMatchingOtp()
+    {
+        storeOtp("hash", System.currentTimeMillis() + 60000, 3);
+
+        assertThat(verifyOtp("hash")).isEqualTo("VALID");
+        assertThat(verifyOtp("hash")).isEqualTo("MISSING");
+    }
+
+    @Test
+    void verifyOtpSpendsAnAttemptOnAMismatchUntilTheBudgetIsExhausted()
+    {
+        storeOtp("hash", System.currentTimeMillis() + 60000, 2);
+
+        assertThat(verifyOtp("wrong")).isEqualTo("INVALID");
+        assertThat(verifyOtp("wrong")).isEqualTo("EXHAUSTED");
+        assertThat(verifyOtp("hash")).isEqualTo("EXHAUSTED");
+    }
+
+    @Test
+    void verifyOtpRejectsAndRemovesAnExpiredOtp()
+    {
+        storeOtp("hash", System.currentTimeMillis() - 1, 3);
+
+        assertThat(verifyOtp("hash")).isEqualTo("EXPIRED");
+        assertThat(redisTemplate.hasKey(KEY)).isFalse();
+    }
+
+    @Test
+    void storeOtpReplacesThePendingOtpAndItsAttempts()
+    {
+        storeOtp("first", System.currentTimeMillis() + 60000, 1);
+        assertThat(verifyOtp("wrong")).isEqualTo("EXHAUSTED");
+
+        storeOtp("second", System.currentTimeMillis() + 60000, 3);
+
+        assertThat(redisTemplate.getExpire(KEY)).isPositive();
+        assertThat(verifyOtp("first")).isEqualTo("INVALID");
+        assertThat(verifyOtp("second")).isEqualTo("VALID");
+    }
+
+    @Test
+    void recordFailedLoginCountsWithinAWindowThatIsNotExtended()
+    {
+        final RedisScript<Long> script = script("record_failed_login.lua", Long.class);
+
+        assertThat(redisTemplate.execute(script, List.of(KEY), "100")).isEqualTo(1L);
+        assertThat(redisTemplate.getExpire(KEY)).isBetween(1L, 100L);
+
+        assertThat(redisTemplate.execute(script, List.of(KEY), "1000")).isEqualTo(2L);
+        assertThat(redisTemplate.getExpire(KEY)).isLessThanOrEqualTo(100L);
+    }
+
+    @Test
+    void claimEmailsLeasesOnlyTheDueEmails()
+    {
+        final RedisScript<Long> enqueue = script("enqueue_email.lua", Long.class);
+        redisTemplate.execute(enqueue, List.of(KEY), "100", "due", "60000");
+        redisTemplate.execute(enqueue, List.of(KEY), "300", "later", "60000");
+
+        assertThat(claim(200, 1000, 10)).containsExactly("due");
+        assertThat(redisTemplate.opsForZSet().score(KEY, "due")).isEqualTo(1000.0);
+        assertThat(redisTemplate.opsForZSet().score(KEY, "later")).isEqualTo(300.0);
+        assertThat(redisTemplate.getExpire(KEY)).isPositive();
+
+        // a leased email is not claimed again before its lease ends
+        assertThat(claim(500, 2000, 10)).containsExactly("later");
+        assertThat(claim(1000, 3000, 1)).containsExactly("due");
+    }
+
+    @Test
+    void rescheduleEmailReplacesAClaimedEmailWithItsNextAttempt()
+    {
+        final RedisScript<Long> script = script("reschedule_email.lua", Long.class);
+        redisTemplate.opsForZSet().add(KEY, "claimed", 1000);
+
+        assertThat(redisTemplate.execute(script, List.of(KEY, DEAD_LETTERS), "claimed", "next", "5000", "10", "60000")).isEqualTo(1L);
+        assertThat(redisTemplate.opsForZSet().score(KEY, "claimed")).isNull();
+        assertThat(redisTemplate.opsForZSet().score(KEY, "next")).isEqualTo(5000.0);
+
+        // the email was taken over by another node, nothing is written
+        assertThat(redisTemplate.execute(script, List.of(KEY, DEAD_LETTERS), "claimed", "other", "5000", "10", "60000")).isZero();
+        assertThat(redisTemplate.opsForZSet().zCard(KEY)).isEqualTo(1L);
+    }
+
+    @Test
+    void rescheduleEmailMovesAnEmailToTheBoundedDeadLetters()
+    {
+        final RedisScript<Long> script = script("reschedule_email.lua", Long.class);
+        for (int i = 0; i < 3; i++)
+        {
+            redisTemplate.opsForZSet().add(KEY, "claimed" + i, 1000);
+            assertThat(redisTemplate.execute(script, List.of(KEY, DEAD_LETTERS), "claimed" + i, "dead" + i, "", "2", "60000")).isEqualTo(1L);
+        }
+
+        assertThat(redisTemplate.opsForZSet().zCard(KEY)).isZero();
+        assertThat(redisTemplate.opsForList().range(DEAD_LETTERS, 0, -1)).containsExactly("dead2", "dead1");
+        assertThat(redisTemplate.getExpire(DEAD_LETTERS)).isPositive();
+    }
+
+    private void storeOtp(String hash, long expiresAt, int attempts)
+    {
+        redisTemplate.execute(script("store_otp.lua", Long.class), List.of(KEY), hash, String.valueOf(expiresAt), String.valueOf(attempts), "120000");
+    }
+
+    private String verifyOtp(String hash)
+    {
+        return redisTemplate.execute(script("verify_otp.lua", String.class), List.of(KEY), hash, String.valueOf(System.currentTimeMillis()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> claim(long now, long leaseEnd, int limit)
+    {
+        return redisTemplate.execute(script("claim_emails.lua", List.class), List.of(KEY), String.valueOf(now), String.valueOf(leaseEnd), String.valueOf(limit));
+    }
+
+    private static <T> RedisScript<T> script(String name, Class<T> resultType)
+    {
+        return RedisScript.of(new ClassPathResource("scripts/" + name), resultType);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.zentois.authbeast.utils.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Tests framing, compressing and reading back the compact values written to Redis.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+class CompactFrameTest
+{
+    private static final int THRESHOLD = 512;
+
+    @Test
+    void keepsAPayloadBelowTheThresholdUncompressed()
+    {
+        final byte[] payload = "{\"email\":\"user@example.com\"}".getBytes(StandardCharsets.UTF_8);
+
+        final byte[] framed = CompactFrame.wrap(payload, THRESHOLD);
+
+        assertThat(CompactFrame.isFramed(framed)).isTrue();
+        assertThat(framed).hasSize(payload.length + 4);
+        assertThat(framed[3]).isZero();
+        assertThat(CompactFrame.unwrap(framed)).isEqualTo(payload);
+    }
+
+    @Test
+    void compressesAPayloadFromTheThresholdOn()
+    {
+        final byte[] payload = "{\"app\":\"Cartxflip\",\"tokens\":[]},".repeat(64).getBytes(StandardCharsets.UTF_8);
+
+        final byte[] framed = CompactFrame.wrap(payload, THRESHOLD);
+
+        assertThat(CompactFrame.isFramed(framed)).isTrue();
+        assertThat(framed.length).isLessThan(payload.length);
+        assertThat(framed[3]).isEqualTo((byte) 1);
+        assertThat(CompactFrame.unwrap(framed)).isEqualTo(payload);
+    }
+
+    @Test
+    void storesAPayloadLz4CanNotShrinkAsIs()
+    {
+        final byte[] payload = new byte[THRESHOLD * 2];
+        new Random(42).nextBytes(payload);
+
+        final byte[] framed = CompactFrame.wrap(payload, THRESHOLD);
+
+        assertThat(framed).hasSize(payload.length + 4);
+        assertThat(framed[3]).isZero();
+        assertThat(CompactFrame.unwrap(framed)).isEqualTo(payload);
+    }
+
+    @Test
+    void neverCompressesWithoutAThreshold()
+    {
+        final byte[] payload = "a".repeat(THRESHOLD * 4).getBytes(StandardCharsets.UTF_8);
+
+        final byte[] framed = CompactFrame.wrap(payload, 0);
+
+        assertThat(framed).hasSize(payload.length + 4);
+        assertThat(CompactFrame.unwrap(framed)).isEqualTo(payload);
+    }
+
+    @Test
+    void tellsALegacyJsonValueFromAFrame()
+    {
+        assertThat(CompactFrame.isFramed("{\"email\":\"user@example.com\"}".getBytes(StandardCharsets.UTF_8))).isFalse();
+        assertThat(CompactFrame.isFramed("[]".getBytes(StandardCharsets.UTF_8))).isFalse();
+        assertThat(CompactFrame.isFramed(new byte[] { (byte) 0xAB, (byte) 0xBE })).isFalse();
+        assertThat(CompactFrame.isFramed(null)).isFalse();
+    }
+
+    @Test
+    void rejectsAFrameOfAnUnknownVersion()
+    {
+        final byte[] framed = CompactFrame.wrap("{}".getBytes(StandardCharsets.UTF_8), THRESHOLD);
+        framed[2] = 2;
+
+        assertThatThrownBy(() -> CompactFrame.unwrap(framed)).isInstanceOf(SerializationException.class);
+    }
+
+    @Test
+    void rejectsACorruptCompressedFrame()
+    {
+        final byte[] payload = "{\"app\":\"Cartxflip\",\"tokens\":[]},".repeat(64).getBytes(StandardCharsets.UTF_8);
+        final byte[] framed = CompactFrame.wrap(payload, THRESHOLD);
+
+        assertThatThrownBy(() -> CompactFrame.unwrap(Arrays.copyOf(framed, framed.length / 2))).isInstanceOf(SerializationException.class);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,236 @@
+package com.zentois.authbeast.utils.email;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetup;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.zentois.authbeast.config.RedisKeyProperties;
+import com.zentois.authbeast.config.SecurityProperties;
+import com.zentois.authbeast.dto.context.OtpParam;
+import com.zentois.authbeast.dto.email.EmailOutboxMessage;
+import com.zentois.authbeast.utils.cache.RedisKeyUtil;
+import com.zentois.framework.email.dto.Context;
+import com.zentois.framework.email.enums.EmailType;
+import com.zentois.framework.email.service.EmailSenderService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Tests the {@link EmailOutboxWorker} end to end: emails are enqueued in a containerised Redis and delivered to a
+ * GreenMail SMTP server. The email sender is stubbed to send the email over SMTP itself, since the templates of the
+ * email framework are not part of this test. A failing SMTP server is simulated by pointing the sender at a closed port.
+ *
+ * @author Ashwani Singh
+ * @version 1.0
+ * @since 2026-Oct-17
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class EmailOutboxWorkerTest
+{
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    @RegisterExtension
+    private static final GreenMailExtension GREEN_MAIL = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private static final String RECEIVER = "user@example.com";
+
+    private static final String OTP = "482913";
+
+    private static final long INITIAL_BACKOFF = 200;
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private static StringRedisTemplate redisTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final EmailSenderService emailSenderService = mock(EmailSenderService.class);
+
+    private volatile ServerSetup smtp;
+
+    private EmailOutbox emailOutbox;
+
+    private EmailOutboxWorker worker;
+
+    @BeforeAll
+    static void connect()
+    {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect()
+    {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp()
+    {
+        redisTemplate.execute((RedisCallback<Object>) connection ->
+        {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+
+        final SecurityProperties securityProperties = new SecurityProperties();
+        securityProperties.setSenderEmail("no-reply@authbeast.in");
+        final SecurityProperties.EmailOutbox settings = securityProperties.getEmailOutbox();
+        settings.setThreads(1);
+        settings.setMaxAttempts(2);
+        settings.setInitialBackoff(INITIAL_BACKOFF);
+        settings.setMaxBackoff(INITIAL_BACKOFF * 4);
+
+        smtp = GREEN_MAIL.getSmtp().getServerSetup();
+        doAnswer(invocation -> deliver(invocation.getArgument(0))).when(emailSenderService).sendEmail(any(Context.class));
+
+        emailOutbox = new EmailOutbox(redisTemplate, new RedisKeyProperties(), securityProperties);
+        worker = new EmailOutboxWorker(emailOutbox, emailSenderService, securityProperties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException
+    {
+        worker.shutdown();
+    }
+
+    @Test
+    void sendsAnEnqueuedOtpEmail() throws Exception
+    {
+        emailOutbox.enqueueOtp(EmailType.PASSWORD_RESET_EMAIL, RECEIVER, OTP, 1, System.currentTimeMillis() + 60000);
+
+        worker.poll();
+
+        assertThat(GREEN_MAIL.waitForIncomingEmail(5000, 1)).isTrue();
+        final MimeMessage message = GREEN_MAIL.getReceivedMessages()[0];
+        assertThat(message.getAllRecipients()[0].toString()).isEqualTo(RECEIVER);
+        assertThat(GreenMailUtil.getBody(message)).contains(OTP);
+        await().atMost(Duration.ofSeconds(5)).until(() -> emailOutbox.size() == 0);
+        assertThat(delivered("sent")).isEqualTo(1);
+    }
+
+    @Test
+    void retriesAFailedSendWithBackoff() throws Exception
+    {
+        smtp = closedPort();
+        emailOutbox.enqueue(EmailType.ACCOUNT_LOCK_INFORMATION_EMAIL, RECEIVER);
+        final long polledAt = System.currentTimeMillis();
+
+        worker.poll();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> delivered("retried") == 1);
+        final String rescheduled = outbox().get(0);
+        final EmailOutboxMessage next = emailOutbox.read(rescheduled);
+        assertThat(next.getAttempts()).isEqualTo(1);
+        assertThat(next.getLastError()).isNotBlank();
+        assertThat(redisTemplate.opsForZSet().score(RedisKeyUtil.emailOutbox(), rescheduled)).isGreaterThanOrEqualTo((double) polledAt + INITIAL_BACKOFF);
+
+        smtp = GREEN_MAIL.getSmtp().getServerSetup();
+        await().atMost(Duration.ofSeconds(5)).pollInterval(Duration.ofMillis(50)).untilAsserted(() ->
+        {
+            worker.poll();
+            assertThat(GREEN_MAIL.getReceivedMessages()).hasSize(1);
+        });
+        await().atMost(Duration.ofSeconds(5)).until(() -> emailOutbox.size() == 0);
+        assertThat(delivered("sent")).isEqualTo(1);
+    }
+
+    @Test
+    void deadLettersAnEmailWithoutItsOtpAfterTheLastAttempt() throws Exception
+    {
+        smtp = closedPort();
+        emailOutbox.enqueueOtp(EmailType.PASSWORD_RESET_EMAIL, RECEIVER, OTP, 1, System.currentTimeMillis() + 60000);
+
+        await().atMost(Duration.ofSeconds(5)).pollInterval(Duration.ofMillis(50)).until(() ->
+        {
+            worker.poll();
+            return delivered("dead-lettered") == 1;
+        });
+
+        assertThat(emailOutbox.size()).isZero();
+        assertThat(emailOutbox.deadLetterCount()).isEqualTo(1);
+        final String deadLetter = redisTemplate.opsForList().index(RedisKeyUtil.emailDeadLetters(), 0);
+        assertThat(deadLetter).doesNotContain(OTP);
+        final EmailOutboxMessage message = emailOutbox.read(deadLetter);
+        assertThat(message.getOtp()).isNull();
+        assertThat(message.getReceiver()).isEqualTo(RECEIVER);
+        assertThat(message.getAttempts()).isEqualTo(2);
+        assertThat(message.getLastError()).isNotBlank();
+        assertThat(delivered("retried")).isEqualTo(1);
+        assertThat(GREEN_MAIL.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    void dropsAnOtpEmailOnceItsOtpExpired()
+    {
+        emailOutbox.enqueueOtp(EmailType.PASSWORD_RESET_EMAIL, RECEIVER, OTP, 1, System.currentTimeMillis() - 1);
+
+        worker.poll();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> delivered("expired") == 1);
+        assertThat(emailOutbox.size()).isZero();
+        assertThat(emailOutbox.deadLetterCount()).isZero();
+        assertThat(GREEN_MAIL.getReceivedMessages()).isEmpty();
+        verify(emailSenderService, never()).sendEmail(any(Context.class));
+    }
+
+    /**
+     * Sends the email over SMTP in place of the email framework.
+     */
+    private Object deliver(Context context)
+    {
+        final String body = context.getAdditionalParams() instanceof OtpParam otpParam ? otpParam.getOtp() : "";
+        GreenMailUtil.sendTextEmail(context.getEmailReceiver(), context.getEmailSender(), context.getEmailType().name(), body, smtp);
+        return null;
+    }
+
+    private double delivered(String result)
+    {
+        return meterRegistry.counter("email.outbox.delivery", "result", result).count();
+    }
+
+    private static List<String> outbox()
+    {
+        return List.copyOf(redisTemplate.opsForZSet().range(RedisKeyUtil.emailOutbox(), 0, -1));
+    }
+
+    private static ServerSetup closedPort() throws IOException
+    {
+        try (ServerSocket socket = new ServerSocket(0))
+        {
+            return new ServerSetup(socket.getLocalPort(), "127.0.0.1", ServerSetup.PROTOCOL_SMTP);
+        }
+    }
+}
\ No newline at end of file